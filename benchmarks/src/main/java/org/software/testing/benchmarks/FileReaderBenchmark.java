@@ -0,0 +1,72 @@
+package org.software.testing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.software.testing.FileReader;
+import org.software.testing.Movie;
+import org.software.testing.User;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileReaderBenchmark {
+    @Param({"100000"})
+    public int userCount;
+
+    @Param({"10000", "100000"})
+    public int movieCount;
+
+    @Param({"3"})
+    public int genresPerMovie;
+
+    @Param({"5"})
+    public int favouritesPerUser;
+
+    private Path moviesFile;
+    private Path usersFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SyntheticData data = SyntheticData.generate(userCount, movieCount, genresPerMovie, favouritesPerUser);
+        moviesFile = Files.createTempFile("movies", ".txt");
+        usersFile = Files.createTempFile("users", ".txt");
+        data.writeMovies(moviesFile);
+        data.writeUsers(usersFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(moviesFile);
+        Files.deleteIfExists(usersFile);
+    }
+
+    @Benchmark
+    public List<Movie> readMovies() throws IOException {
+        return FileReader.readMovies(moviesFile.toString());
+    }
+
+    @Benchmark
+    public List<User> readUsers() throws IOException {
+        return FileReader.readUsers(usersFile.toString());
+    }
+}
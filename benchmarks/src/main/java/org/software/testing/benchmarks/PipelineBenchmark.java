@@ -0,0 +1,85 @@
+package org.software.testing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.software.testing.Main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PipelineBenchmark {
+    @Param({"10000", "100000"})
+    public int userCount;
+
+    // The pipeline validates the catalogue, which only accepts up to 1000 movies.
+    @Param({"1000"})
+    public int movieCount;
+
+    @Param({"3"})
+    public int genresPerMovie;
+
+    @Param({"5"})
+    public int favouritesPerUser;
+
+    // false measures parsing and validating movies.txt on every run; true measures repeat runs off the snapshot.
+    @Param({"false", "true"})
+    public boolean reuseSnapshot;
+
+    private Path directory;
+    private Path moviesFile;
+    private Path usersFile;
+    private Path outputFile;
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SyntheticData data = SyntheticData.generate(userCount, movieCount, genresPerMovie, favouritesPerUser);
+        directory = Files.createTempDirectory("pipeline");
+        moviesFile = directory.resolve("movies.txt");
+        usersFile = directory.resolve("users.txt");
+        outputFile = directory.resolve("recommendations.txt");
+        snapshotFile = directory.resolve("movies.txt.snapshot");
+        data.writeMovies(moviesFile);
+        data.writeUsers(usersFile);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareSnapshot() throws IOException {
+        if (!reuseSnapshot) {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(outputFile);
+        Files.deleteIfExists(moviesFile);
+        Files.deleteIfExists(usersFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void runPipeline() throws IOException {
+        Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString());
+    }
+}
@@ -0,0 +1,88 @@
+package org.software.testing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.software.testing.BitsetGenreRecommendation;
+import org.software.testing.GenreBasedRecommendation;
+import org.software.testing.IndexedGenreRecommendation;
+import org.software.testing.Movie;
+import org.software.testing.MovieCatalogue;
+import org.software.testing.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecommendationBenchmark {
+    @Param({"1000"})
+    public int userCount;
+
+    @Param({"1000", "10000"})
+    public int movieCount;
+
+    @Param({"3"})
+    public int genresPerMovie;
+
+    @Param({"5"})
+    public int favouritesPerUser;
+
+    private List<User> users;
+    private List<Movie> movies;
+    private MovieCatalogue catalogue;
+    private GenreBasedRecommendation genreBasedRecommendation;
+    private IndexedGenreRecommendation indexedGenreRecommendation;
+    private BitsetGenreRecommendation bitsetGenreRecommendation;
+    private int nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = SyntheticData.generate(userCount, movieCount, genresPerMovie, favouritesPerUser);
+        users = data.users();
+        movies = data.movies();
+        catalogue = new MovieCatalogue(movies);
+        genreBasedRecommendation = new GenreBasedRecommendation();
+        indexedGenreRecommendation = new IndexedGenreRecommendation();
+        bitsetGenreRecommendation = new BitsetGenreRecommendation();
+    }
+
+    private User nextUser() {
+        User user = users.get(nextUser);
+        nextUser = (nextUser + 1) % users.size();
+        return user;
+    }
+
+    @Benchmark
+    public List<Movie> genreBasedOverList() {
+        return genreBasedRecommendation.recommend(nextUser(), movies);
+    }
+
+    @Benchmark
+    public List<Movie> genreBasedOverCatalogue() {
+        return genreBasedRecommendation.recommend(nextUser(), catalogue);
+    }
+
+    @Benchmark
+    public List<Movie> indexedGenre() {
+        return indexedGenreRecommendation.recommend(nextUser(), catalogue);
+    }
+
+    @Benchmark
+    public List<Movie> bitsetGenre() {
+        return bitsetGenreRecommendation.recommend(nextUser(), catalogue);
+    }
+}
@@ -0,0 +1,110 @@
+package org.software.testing.benchmarks;
+
+import org.software.testing.Movie;
+import org.software.testing.User;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class SyntheticData {
+    private static final long SEED = 42L;
+    private static final List<String> GENRES = List.of(
+            "Action", "Adventure", "Animation", "Biography", "Comedy", "Crime", "Documentary", "Drama",
+            "Family", "Fantasy", "History", "Horror", "Music", "Musical", "Mystery", "Romance",
+            "Sci-Fi", "Short", "Sport", "Superhero", "Thriller", "War", "Western", "Noir");
+
+    private final List<Movie> movies;
+    private final List<User> users;
+
+    private SyntheticData(List<Movie> movies, List<User> users) {
+        this.movies = movies;
+        this.users = users;
+    }
+
+    // Movie IDs are only valid while movieCount <= 1000, because validation requires unique three-digit suffixes.
+    public static SyntheticData generate(int userCount, int movieCount, int genresPerMovie, int favouritesPerUser) {
+        Random random = new Random(SEED);
+
+        List<Movie> movies = new ArrayList<>(movieCount);
+        for (int index = 0; index < movieCount; index++) {
+            String word = word(index);
+            String id = "M" + word.charAt(0) + String.format("%03d", index % 1000);
+            movies.add(new Movie("Movie " + word, id, pickGenres(random, genresPerMovie)));
+        }
+
+        List<User> users = new ArrayList<>(userCount);
+        for (int index = 0; index < userCount; index++) {
+            String id = String.format("%08d", index) + (char) ('A' + index % 26);
+            users.add(new User("User " + word(index), id, pickFavourites(random, movies, favouritesPerUser)));
+        }
+        return new SyntheticData(movies, users);
+    }
+
+    public List<Movie> movies() {
+        return movies;
+    }
+
+    public List<User> users() {
+        return users;
+    }
+
+    public void writeMovies(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (Movie movie : movies) {
+                writer.write(movie.title() + "," + movie.id());
+                writer.newLine();
+                writer.write(String.join(",", movie.genres()));
+                writer.newLine();
+            }
+        }
+    }
+
+    public void writeUsers(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (User user : users) {
+                writer.write(user.name() + "," + user.id());
+                writer.newLine();
+                writer.write(String.join(",", user.favouriteMovieIds()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static List<String> pickGenres(Random random, int genresPerMovie) {
+        Set<String> genres = new LinkedHashSet<>();
+        int count = Math.min(genresPerMovie, GENRES.size());
+        while (genres.size() < count) {
+            genres.add(GENRES.get(random.nextInt(GENRES.size())));
+        }
+        return new ArrayList<>(genres);
+    }
+
+    private static List<String> pickFavourites(Random random, List<Movie> movies, int favouritesPerUser) {
+        Set<String> favourites = new LinkedHashSet<>();
+        int count = Math.min(favouritesPerUser, movies.size());
+        while (favourites.size() < count) {
+            favourites.add(movies.get(random.nextInt(movies.size())).id());
+        }
+        return new ArrayList<>(favourites);
+    }
+
+    // Capitalised letters-only word for an index, e.g. 0 -> "Aaaa", 1 -> "Baaa".
+    private static String word(int index) {
+        StringBuilder word = new StringBuilder();
+        int value = index;
+        for (int position = 0; position < 4 || value > 0; position++) {
+            char letter = (char) ('a' + value % 26);
+            word.append(position == 0 ? Character.toUpperCase(letter) : letter);
+            value /= 26;
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package org.software.testing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.software.testing.MovieCatalogue;
+import org.software.testing.ValidationService;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+    @Param({"10000", "100000"})
+    public int userCount;
+
+    // Validation only accepts up to 1000 movies (unique three-digit ID suffixes).
+    @Param({"1000"})
+    public int movieCount;
+
+    @Param({"3"})
+    public int genresPerMovie;
+
+    @Param({"5"})
+    public int favouritesPerUser;
+
+    private ValidationService listValidationService;
+    private ValidationService catalogueValidationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = SyntheticData.generate(userCount, movieCount, genresPerMovie, favouritesPerUser);
+        listValidationService = new ValidationService(data.movies(), data.users());
+        catalogueValidationService = new ValidationService(new MovieCatalogue(data.movies()), data.users());
+    }
+
+    @Benchmark
+    public void validateOverList() {
+        listValidationService.validate();
+    }
+
+    @Benchmark
+    public void validateOverCatalogue() {
+        catalogueValidationService.validate();
+    }
+}
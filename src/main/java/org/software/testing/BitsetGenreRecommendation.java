@@ -0,0 +1,152 @@
+package org.software.testing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BitsetGenreRecommendation implements RecommendationStrategy {
+    private volatile GenreBitsets genreBitsets;
+    private final ScratchPool<long[]> scratch = new ScratchPool<>(() -> new long[0]);
+
+    @Override
+    public List<Movie> recommend(User user, List<Movie> movies) {
+        GenreBitsets bitsets = genreBitsets;
+        if (bitsets == null || bitsets.catalogue.movies() != movies) {
+            bitsets = new GenreBitsets(new MovieCatalogue(movies));
+            genreBitsets = bitsets;
+        }
+        return recommend(user, bitsets);
+    }
+
+    @Override
+    public List<Movie> recommend(User user, MovieCatalogue catalogue) {
+        return recommend(user, bitsetsFor(catalogue));
+    }
+
+    @Override
+    public List<List<Movie>> recommendBatch(List<User> users, MovieCatalogue catalogue) {
+        GenreBitsets bitsets = bitsetsFor(catalogue);
+        List<List<Movie>> recommendations = new ArrayList<>(users.size());
+        for (User user : users) {
+            recommendations.add(recommend(user, bitsets));
+        }
+        return recommendations;
+    }
+
+    private GenreBitsets bitsetsFor(MovieCatalogue catalogue) {
+        GenreBitsets bitsets = genreBitsets;
+        if (bitsets == null || bitsets.catalogue != catalogue) {
+            bitsets = new GenreBitsets(catalogue);
+            genreBitsets = bitsets;
+        }
+        return bitsets;
+    }
+
+    private List<Movie> recommend(User user, GenreBitsets bitsets) {
+        int words = bitsets.words;
+        long[] candidates = scratch.acquire();
+        if (candidates.length < words) {
+            candidates = new long[words];
+        } else {
+            Arrays.fill(candidates, 0, words, 0L);
+        }
+        try {
+            return recommend(user, bitsets, candidates);
+        } finally {
+            scratch.release(candidates);
+        }
+    }
+
+    // OR of the favourites' genre bitsets AND NOT the favourites, returned in catalogue order.
+    private List<Movie> recommend(User user, GenreBitsets bitsets, long[] candidates) {
+        MovieCatalogue catalogue = bitsets.catalogue;
+        GenreDictionary genreDictionary = catalogue.genreDictionary();
+        int words = bitsets.words;
+
+        List<String> favouriteMovieIds = user.favouriteMovieIds();
+        for (String favouriteMovieId : favouriteMovieIds) {
+            Movie favouriteMovie = catalogue.findById(favouriteMovieId);
+            if (favouriteMovie == null) {
+                continue;
+            }
+            for (String genre : favouriteMovie.genres()) {
+                int genreId = genreDictionary.idOf(genre);
+                if (genreId >= 0) {
+                    long[] genreBits = bitsets.moviesByGenre[genreId];
+                    for (int word = 0; word < words; word++) {
+                        candidates[word] |= genreBits[word];
+                    }
+                }
+            }
+        }
+
+        bitsets.clearFavourites(candidates, favouriteMovieIds);
+
+        List<Movie> recommendedMovies = new ArrayList<>();
+        for (int word = 0; word < words; word++) {
+            long bits = candidates[word];
+            while (bits != 0) {
+                recommendedMovies.add(catalogue.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return recommendedMovies;
+    }
+
+    private static final class GenreBitsets {
+        private final MovieCatalogue catalogue;
+        private final int words;
+        private final long[][] moviesByGenre;
+        private final Map<String, int[]> repeatedIdOrdinals = new HashMap<>();
+
+        private GenreBitsets(MovieCatalogue catalogue) {
+            this.catalogue = catalogue;
+            this.words = (catalogue.size() + 63) >>> 6;
+            int genreCount = catalogue.genreDictionary().size();
+            int genreWords = catalogue.genreDictionary().wordCount();
+            this.moviesByGenre = new long[genreCount][words];
+
+            for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+                Movie movie = catalogue.get(ordinal);
+                int firstOrdinal = catalogue.ordinalOf(movie.id());
+                if (firstOrdinal != ordinal) {
+                    int[] ordinals = repeatedIdOrdinals.getOrDefault(movie.id(), new int[]{firstOrdinal});
+                    boolean repeatsEarlierMovie = false;
+                    for (int earlierOrdinal : ordinals) {
+                        repeatsEarlierMovie |= movie.equals(catalogue.get(earlierOrdinal));
+                    }
+                    ordinals = Arrays.copyOf(ordinals, ordinals.length + 1);
+                    ordinals[ordinals.length - 1] = ordinal;
+                    repeatedIdOrdinals.put(movie.id(), ordinals);
+                    // GenreBasedRecommendation deduplicates equal movies, so only the first copy gets genre bits
+                    if (repeatsEarlierMovie) {
+                        continue;
+                    }
+                }
+                for (int word = 0; word < genreWords; word++) {
+                    for (long bits = catalogue.genreWord(ordinal, word); bits != 0; bits &= bits - 1) {
+                        moviesByGenre[(word << 6) + Long.numberOfTrailingZeros(bits)][ordinal >>> 6] |= 1L << ordinal;
+                    }
+                }
+            }
+        }
+
+        private void clearFavourites(long[] candidates, List<String> favouriteMovieIds) {
+            for (String movieId : favouriteMovieIds) {
+                int[] ordinals = repeatedIdOrdinals.get(movieId);
+                if (ordinals != null) {
+                    for (int ordinal : ordinals) {
+                        candidates[ordinal >>> 6] &= ~(1L << ordinal);
+                    }
+                } else {
+                    int ordinal = catalogue.ordinalOf(movieId);
+                    if (ordinal >= 0) {
+                        candidates[ordinal >>> 6] &= ~(1L << ordinal);
+                    }
+                }
+            }
+        }
+    }
+}
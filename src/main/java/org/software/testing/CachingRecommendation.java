@@ -0,0 +1,120 @@
+package org.software.testing;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class CachingRecommendation implements RecommendationStrategy {
+    private static final int UNLIMITED = -1;
+
+    private final RecommendationStrategy delegate;
+    private final int maximumSize;
+    private final long maximumRetainedMovies;
+    private final Map<Signature, List<Movie>> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long retainedMovies;
+    private Object source;
+
+    public CachingRecommendation(RecommendationStrategy delegate, int maximumSize) {
+        this(delegate, maximumSize, Long.MAX_VALUE);
+    }
+
+    // maximumRetainedMovies bounds the movie references held across all cached lists; longer lists are not cached.
+    public CachingRecommendation(RecommendationStrategy delegate, int maximumSize, long maximumRetainedMovies) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maximumSize);
+        }
+        if (maximumRetainedMovies <= 0) {
+            throw new IllegalArgumentException("Retained movie budget must be positive: " + maximumRetainedMovies);
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.maximumRetainedMovies = maximumRetainedMovies;
+    }
+
+    @Override
+    public List<Movie> recommend(User user, List<Movie> movies) {
+        return cached(user, movies, UNLIMITED, () -> delegate.recommend(user, movies));
+    }
+
+    @Override
+    public List<Movie> recommend(User user, MovieCatalogue catalogue) {
+        return cached(user, catalogue, UNLIMITED, () -> delegate.recommend(user, catalogue));
+    }
+
+    @Override
+    public List<Movie> recommend(User user, MovieCatalogue catalogue, int limit) {
+        return cached(user, catalogue, Math.max(limit, 0), () -> delegate.recommend(user, catalogue, limit));
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized long retainedMovieCount() {
+        return retainedMovies;
+    }
+
+    public synchronized void invalidate() {
+        clear();
+        source = null;
+    }
+
+    private List<Movie> cached(User user, Object movieSource, int limit, Supplier<List<Movie>> recommender) {
+        if (user.favouriteMovieIds() == null) {
+            return recommender.get();
+        }
+        Signature signature = new Signature(user.favouriteMovieIds(), limit);
+        synchronized (this) {
+            if (source != movieSource) {
+                clear();
+                source = movieSource;
+            }
+            List<Movie> recommendedMovies = cache.get(signature);
+            if (recommendedMovies != null) {
+                hits.increment();
+                return recommendedMovies;
+            }
+        }
+
+        misses.increment();
+        List<Movie> recommendedMovies = List.copyOf(recommender.get());
+        synchronized (this) {
+            if (source == movieSource && recommendedMovies.size() <= maximumRetainedMovies) {
+                List<Movie> replaced = cache.put(signature, recommendedMovies);
+                retainedMovies += recommendedMovies.size() - (replaced == null ? 0 : replaced.size());
+                evict();
+            }
+        }
+        return recommendedMovies;
+    }
+
+    private void evict() {
+        Iterator<List<Movie>> eldest = cache.values().iterator();
+        while (cache.size() > maximumSize || retainedMovies > maximumRetainedMovies) {
+            retainedMovies -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    private void clear() {
+        cache.clear();
+        retainedMovies = 0;
+    }
+
+    // Favourites are kept in order: genre-based strategies emit candidates favourite by favourite.
+    private record Signature(List<String> favouriteMovieIds, int limit) {
+    }
+}
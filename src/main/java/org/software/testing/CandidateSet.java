@@ -0,0 +1,35 @@
+package org.software.testing;
+
+import java.util.Arrays;
+
+// Bitset of movie ordinals that remembers which bits it set, so reset is proportional to use.
+final class CandidateSet {
+    private long[] seen = new long[0];
+    private int[] touched = new int[16];
+    private int touchedCount;
+
+    void reset(int size) {
+        for (int i = 0; i < touchedCount; i++) {
+            seen[touched[i] >>> 6] = 0;
+        }
+        touchedCount = 0;
+        int words = (size + 63) >>> 6;
+        if (seen.length < words) {
+            seen = new long[words];
+        }
+    }
+
+    boolean add(int ordinal) {
+        long bit = 1L << ordinal;
+        int word = ordinal >>> 6;
+        if ((seen[word] & bit) != 0) {
+            return false;
+        }
+        seen[word] |= bit;
+        if (touchedCount == touched.length) {
+            touched = Arrays.copyOf(touched, touched.length * 2);
+        }
+        touched[touchedCount++] = ordinal;
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+package org.software.testing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+final class CanonicalList extends AbstractList<String> implements RandomAccess {
+    private static final Comparator<String> ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final String[] elements;
+    private final String[] sortedDistinct;
+    private final int setHash;
+
+    private CanonicalList(String[] elements) {
+        this.elements = elements;
+        String[] sorted = elements.clone();
+        Arrays.sort(sorted, ORDER);
+        int distinctCount = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (distinctCount == 0 || !Objects.equals(sorted[distinctCount - 1], sorted[i])) {
+                sorted[distinctCount++] = sorted[i];
+            }
+        }
+        this.sortedDistinct = Arrays.copyOf(sorted, distinctCount);
+        int hash = 0;
+        for (String element : sortedDistinct) {
+            hash += Objects.hashCode(element);
+        }
+        this.setHash = hash;
+    }
+
+    static CanonicalList of(List<String> list) {
+        if (list == null) {
+            return null;
+        }
+        if (list instanceof CanonicalList canonicalList) {
+            return canonicalList;
+        }
+        return new CanonicalList(list.toArray(new String[0]));
+    }
+
+    static boolean sameElements(CanonicalList first, CanonicalList second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null || first.setHash != second.setHash) {
+            return false;
+        }
+        return Arrays.equals(first.sortedDistinct, second.sortedDistinct);
+    }
+
+    static int setHashCode(CanonicalList list) {
+        return list == null ? 0 : list.setHash;
+    }
+
+    @Override
+    public String get(int index) {
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o != null && !(o instanceof String)) {
+            return false;
+        }
+        return Arrays.binarySearch(sortedDistinct, (String) o, ORDER) >= 0;
+    }
+}
@@ -0,0 +1,295 @@
+package org.software.testing;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Layout (little endian): header, genre names, per-movie genre bit rows, per-movie genre ids in
+// file order, a UTF-8 blob holding each movie's title then ID, and finally the blob offsets of
+// every string plus the blob end. The header ends with a SHA-256 of the source file, which is only
+// checked when the source's timestamp is too close to the snapshot's to tell an edit apart.
+// read() materialises an on-heap MovieCatalogue; OffHeapMovieCatalogue serves the file without copying.
+public class CatalogueSnapshot {
+    static final int MAGIC = 0x4D43534E;
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 72;
+    private static final int DIGEST_POSITION = 40;
+    private static final int DIGEST_SIZE = 32;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long TIMESTAMP_GRANULARITY_MILLIS = 2000;
+
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    public static void write(MovieCatalogue catalogue, String snapshotPath, String sourcePath) throws IOException {
+        Path source = Path.of(sourcePath);
+        long sourceSize = Files.size(source);
+        long sourceModified = Files.getLastModifiedTime(source).toMillis();
+        byte[] sourceDigest = digest(source);
+
+        Path snapshot = Path.of(snapshotPath);
+        Path pendingSnapshot = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(pendingSnapshot,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            new Writer(channel).write(catalogue, sourceSize, sourceModified, sourceDigest);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(pendingSnapshot);
+            throw e;
+        }
+        Files.move(pendingSnapshot, snapshot, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static boolean isCurrent(String snapshotPath, String sourcePath) throws IOException {
+        Path snapshot = Path.of(snapshotPath);
+        Path source = Path.of(sourcePath);
+        if (!Files.isRegularFile(snapshot) || !Files.isRegularFile(source)) {
+            return false;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    return false;
+                }
+            }
+        }
+        header.flip();
+        long sourceModified = Files.getLastModifiedTime(source).toMillis();
+        if (header.getInt() != MAGIC
+                || header.getInt() != VERSION
+                || header.getLong() != Files.size(source)
+                || header.getLong() != sourceModified) {
+            return false;
+        }
+        if (Files.getLastModifiedTime(snapshot).toMillis() - sourceModified >= TIMESTAMP_GRANULARITY_MILLIS) {
+            return true;
+        }
+        byte[] snapshotDigest = new byte[DIGEST_SIZE];
+        header.get(DIGEST_POSITION, snapshotDigest);
+        return MessageDigest.isEqual(snapshotDigest, digest(source));
+    }
+
+    public static MovieCatalogue read(String snapshotPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(snapshotPath), StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Invalid catalogue snapshot " + snapshotPath);
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            if (segment.get(INT, 0) != MAGIC || segment.get(INT, 4) != VERSION) {
+                throw new IOException("Invalid catalogue snapshot " + snapshotPath);
+            }
+            try {
+                return read(segment);
+            } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IOException("Corrupt catalogue snapshot " + snapshotPath, e);
+            }
+        }
+    }
+
+    private static MovieCatalogue read(MemorySegment segment) {
+        int movieCount = segment.get(INT, 24);
+        int genreCount = segment.get(INT, 28);
+        long offsetsPosition = segment.get(LONG, 32);
+        if (movieCount < 0 || genreCount < 0) {
+            throw new IllegalArgumentException("Negative count in snapshot header");
+        }
+
+        byte[] scratch = new byte[256];
+        long position = HEADER_SIZE;
+        GenreDictionary genreDictionary = new GenreDictionary();
+        for (int genreId = 0; genreId < genreCount; genreId++) {
+            int length = segment.get(INT, position);
+            scratch = ensureCapacity(scratch, length);
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, position + 4, scratch, 0, length);
+            genreDictionary.intern(new String(scratch, 0, length, StandardCharsets.UTF_8));
+            position += 4 + length;
+        }
+
+        int genreWords = genreDictionary.wordCount();
+        long[] genreBits = new long[Math.multiplyExact(movieCount, genreWords)];
+        MemorySegment.copy(segment, LONG, position, genreBits, 0, genreBits.length);
+        position += (long) genreBits.length * Long.BYTES;
+
+        List<List<String>> movieGenres = new ArrayList<>(movieCount);
+        for (int ordinal = 0; ordinal < movieCount; ordinal++) {
+            int genreRefs = segment.get(INT, position);
+            position += Integer.BYTES;
+            List<String> genres = new ArrayList<>(genreRefs);
+            for (int ref = 0; ref < genreRefs; ref++) {
+                genres.add(genreDictionary.genre(segment.get(INT, position)));
+                position += Integer.BYTES;
+            }
+            movieGenres.add(genres);
+        }
+        long blobPosition = position;
+
+        long[] offsets = new long[2 * movieCount + 1];
+        MemorySegment.copy(segment, LONG, offsetsPosition, offsets, 0, offsets.length);
+
+        List<Movie> movies = new ArrayList<>(movieCount);
+        for (int ordinal = 0; ordinal < movieCount; ordinal++) {
+            long titleStart = blobPosition + offsets[2 * ordinal];
+            long idStart = blobPosition + offsets[2 * ordinal + 1];
+            long idEnd = blobPosition + offsets[2 * ordinal + 2];
+            scratch = ensureCapacity(scratch, Math.toIntExact(Math.max(idStart - titleStart, idEnd - idStart)));
+            String title = decode(segment, titleStart, idStart, scratch);
+            String id = decode(segment, idStart, idEnd, scratch);
+            movies.add(new Movie(title, id, movieGenres.get(ordinal)));
+        }
+        return new MovieCatalogue(movies, genreDictionary, genreBits);
+    }
+
+    private static byte[] digest(Path source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return digest.digest();
+    }
+
+    private static String decode(MemorySegment segment, long start, long end, byte[] scratch) {
+        int length = (int) (end - start);
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ensureCapacity(byte[] scratch, int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length " + length);
+        }
+        return scratch.length >= length ? scratch : new byte[Math.max(length, scratch.length * 2)];
+    }
+
+    private static class Writer {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void write(MovieCatalogue catalogue, long sourceSize, long sourceModified, byte[] sourceDigest) throws IOException {
+            GenreDictionary genreDictionary = catalogue.genreDictionary();
+            ensureRoom(HEADER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(sourceSize).putLong(sourceModified)
+                    .putInt(catalogue.size()).putInt(genreDictionary.size()).putLong(0).put(sourceDigest);
+            position += HEADER_SIZE;
+
+            for (int genreId = 0; genreId < genreDictionary.size(); genreId++) {
+                String genre = genreDictionary.genre(genreId);
+                if (genre == null) {
+                    throw new IllegalArgumentException("Cannot snapshot a null genre");
+                }
+                byte[] bytes = genre.getBytes(StandardCharsets.UTF_8);
+                putInt(bytes.length);
+                putBytes(bytes);
+            }
+
+            for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+                for (long bits : catalogue.genreMask(ordinal)) {
+                    putLong(bits);
+                }
+            }
+
+            for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+                List<String> genres = catalogue.get(ordinal).genres();
+                if (genres == null) {
+                    throw new IllegalArgumentException("Cannot snapshot incomplete movie at ordinal " + ordinal);
+                }
+                putInt(genres.size());
+                for (String genre : genres) {
+                    putInt(genreDictionary.idOf(genre));
+                }
+            }
+
+            long[] offsets = new long[2 * catalogue.size() + 1];
+            long blobPosition = position;
+            for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+                Movie movie = catalogue.get(ordinal);
+                if (movie.title() == null || movie.id() == null) {
+                    throw new IllegalArgumentException("Cannot snapshot incomplete movie at ordinal " + ordinal);
+                }
+                offsets[2 * ordinal] = position - blobPosition;
+                putBytes(movie.title().getBytes(StandardCharsets.UTF_8));
+                offsets[2 * ordinal + 1] = position - blobPosition;
+                putBytes(movie.id().getBytes(StandardCharsets.UTF_8));
+            }
+            offsets[offsets.length - 1] = position - blobPosition;
+
+            long offsetsPosition = position;
+            for (long offset : offsets) {
+                putLong(offset);
+            }
+            drain();
+
+            ByteBuffer patch = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, offsetsPosition);
+            channel.write(patch, 32);
+        }
+
+        private void putInt(int value) throws IOException {
+            ensureRoom(Integer.BYTES);
+            buffer.putInt(value);
+            position += Integer.BYTES;
+        }
+
+        private void putLong(long value) throws IOException {
+            ensureRoom(Long.BYTES);
+            buffer.putLong(value);
+            position += Long.BYTES;
+        }
+
+        private void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+            position += bytes.length;
+        }
+
+        private void ensureRoom(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.software.testing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Reverse index from favourite movie IDs and favourite genres to the users holding them, so a
+// RecommendationDelta only visits the users it can reach instead of every user.
+public class FavouriteIndex {
+    private final Map<String, User> usersById = new HashMap<>();
+    private final Map<String, Set<String>> userIdsByMovieId = new HashMap<>();
+    private final Map<String, Set<String>> userIdsByGenre = new HashMap<>();
+    private final Map<String, Set<String>> genresByUserId = new HashMap<>();
+
+    public static FavouriteIndex build(List<User> users, MovieCatalogue catalogue) {
+        FavouriteIndex index = new FavouriteIndex();
+        for (User user : users) {
+            index.add(user, catalogue);
+        }
+        return index;
+    }
+
+    public int size() {
+        return usersById.size();
+    }
+
+    public User user(String userId) {
+        return usersById.get(userId);
+    }
+
+    // Moves the index to the catalogue after the delta and returns the users whose recommendations may have changed.
+    public Update apply(RecommendationDelta delta, MovieCatalogue catalogue) {
+        Set<String> affectedUserIds = new LinkedHashSet<>();
+        List<User> replacedUsers = new ArrayList<>();
+        for (User user : delta.changedUsers()) {
+            User replaced = remove(user.id());
+            if (replaced != null) {
+                replacedUsers.add(replaced);
+            }
+            add(user, catalogue);
+            affectedUserIds.add(user.id());
+        }
+
+        for (String movieId : delta.changedMovieIds()) {
+            for (String userId : userIdsByMovieId.getOrDefault(movieId, Set.of())) {
+                if (affectedUserIds.add(userId)) {
+                    removeGenres(userId);
+                    addGenres(usersById.get(userId), catalogue);
+                }
+            }
+        }
+
+        addGenreFans(delta.addedMovies(), affectedUserIds);
+        addGenreFans(delta.removedMovies(), affectedUserIds);
+
+        List<User> affectedUsers = new ArrayList<>(affectedUserIds.size());
+        for (String userId : affectedUserIds) {
+            affectedUsers.add(usersById.get(userId));
+        }
+        return new Update(affectedUsers, replacedUsers);
+    }
+
+    private void addGenreFans(List<Movie> movies, Set<String> affectedUserIds) {
+        for (Movie movie : movies) {
+            for (String genre : movie.genres()) {
+                affectedUserIds.addAll(userIdsByGenre.getOrDefault(genre, Set.of()));
+            }
+        }
+    }
+
+    private void add(User user, MovieCatalogue catalogue) {
+        remove(user.id());
+        usersById.put(user.id(), user);
+        if (user.favouriteMovieIds() == null) {
+            return;
+        }
+        for (String movieId : user.favouriteMovieIds()) {
+            userIdsByMovieId.computeIfAbsent(movieId, key -> new LinkedHashSet<>()).add(user.id());
+        }
+        addGenres(user, catalogue);
+    }
+
+    private User remove(String userId) {
+        User user = usersById.remove(userId);
+        if (user == null) {
+            return null;
+        }
+        if (user.favouriteMovieIds() != null) {
+            for (String movieId : user.favouriteMovieIds()) {
+                removeFrom(userIdsByMovieId, movieId, userId);
+            }
+        }
+        removeGenres(userId);
+        return user;
+    }
+
+    private void addGenres(User user, MovieCatalogue catalogue) {
+        if (user.favouriteMovieIds() == null) {
+            return;
+        }
+        Set<String> genres = new LinkedHashSet<>();
+        for (String movieId : user.favouriteMovieIds()) {
+            Movie favouriteMovie = catalogue.findById(movieId);
+            if (favouriteMovie != null) {
+                genres.addAll(favouriteMovie.genres());
+            }
+        }
+        for (String genre : genres) {
+            userIdsByGenre.computeIfAbsent(genre, key -> new LinkedHashSet<>()).add(user.id());
+        }
+        genresByUserId.put(user.id(), genres);
+    }
+
+    private void removeGenres(String userId) {
+        Set<String> genres = genresByUserId.remove(userId);
+        if (genres != null) {
+            for (String genre : genres) {
+                removeFrom(userIdsByGenre, genre, userId);
+            }
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<String>> index, String key, String userId) {
+        Set<String> userIds = index.get(key);
+        if (userIds != null && userIds.remove(userId) && userIds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    public record Update(List<User> affectedUsers, List<User> replacedUsers) {
+    }
+}
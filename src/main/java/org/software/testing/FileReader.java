@@ -13,22 +13,33 @@ public class FileReader {
 
         List<User> users = new ArrayList<>();
         for (int i = 0; i < lines.size(); i += 2) {
-            String[] userLine = lines.get(i).split(",");
-            String[] favouriteMovieIds = lines.get(i + 1).split(",");
+            users.add(parseUser(lines.get(i), lines.get(i + 1)));
+        }
 
-            String userName = userLine[0].trim();
-            String userId = userLine[1].trim();
+        return users;
+    }
 
-            List<String> favouriteMovieIdsList = new ArrayList<>();
-            for (String movieId : favouriteMovieIds) {
-                favouriteMovieIdsList.add(movieId.trim());
-            }
+    public static List<User> readUsersInParallel(String path) throws IOException {
+        return ParallelUserLoader.load(path);
+    }
+
+    public static UserFileReader openUsers(String path) throws IOException {
+        return new UserFileReader(path);
+    }
+
+    static User parseUser(String userLine, String favouritesLine) {
+        String[] userFields = userLine.split(",");
+        String[] favouriteMovieIds = favouritesLine.split(",");
 
-            User user = new User(userName, userId, favouriteMovieIdsList);
-            users.add(user);
+        String userName = userFields[0].trim();
+        String userId = userFields[1].trim();
+
+        List<String> favouriteMovieIdsList = new ArrayList<>();
+        for (String movieId : favouriteMovieIds) {
+            favouriteMovieIdsList.add(movieId.trim());
         }
 
-        return users;
+        return new User(userName, userId, favouriteMovieIdsList);
     }
 
     public static List<Movie> readMovies(String path) throws IOException {
@@ -36,6 +47,7 @@ public class FileReader {
         List<String> lines = Files.readAllLines(file.toPath());
 
         List<Movie> movies = new ArrayList<>();
+        GenreDictionary genreDictionary = new GenreDictionary();
         for (int i = 0; i < lines.size(); i += 2) {
             String[] movieLine = lines.get(i).split(",");
             String[] genres = lines.get(i + 1).split(",");
@@ -45,7 +57,7 @@ public class FileReader {
 
             List<String> genresList = new ArrayList<>();
             for (String genre : genres) {
-                genresList.add(genre.trim());
+                genresList.add(genreDictionary.canonical(genre.trim()));
             }
             Movie movie = new Movie(movieTitle, movieId, genresList);
             movies.add(movie);
@@ -53,4 +65,16 @@ public class FileReader {
 
         return movies;
     }
+
+    public static MovieCatalogue readCatalogue(String path) throws IOException {
+        return new MovieCatalogue(readMovies(path));
+    }
+
+    public static MovieCatalogue mapCatalogue(String path) throws IOException {
+        return MappedMovieLoader.load(path);
+    }
+
+    public static MovieCatalogue readSnapshot(String path) throws IOException {
+        return CatalogueSnapshot.read(path);
+    }
 }
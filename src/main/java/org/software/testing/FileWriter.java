@@ -1,8 +1,7 @@
 package org.software.testing;
 
 import java.io.File;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.io.IOException;
 
 public class FileWriter {
     public static boolean writeToFile(String fileName, String content) {
@@ -21,8 +20,8 @@ public class FileWriter {
             }
         }
         if (file.canWrite()) {
-            try {
-                Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+            try (StreamingFileWriter writer = open(fileName)) {
+                writer.write(content);
                 return true;
             } catch (Exception e) {
                 return false;
@@ -31,4 +30,12 @@ public class FileWriter {
             return false;
         }
     }
+
+    public static StreamingFileWriter open(String fileName) throws IOException {
+        return new StreamingFileWriter(fileName);
+    }
+
+    public static void writeSnapshot(MovieCatalogue catalogue, String fileName, String sourceFileName) throws IOException {
+        CatalogueSnapshot.write(catalogue, fileName, sourceFileName);
+    }
 }
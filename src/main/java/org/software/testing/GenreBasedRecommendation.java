@@ -1,9 +1,14 @@
 package org.software.testing;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class GenreBasedRecommendation implements RecommendationStrategy {
+    private volatile GenreMemo genreMemo;
+    private final ScratchPool<CandidateSet> scratch = new ScratchPool<>(CandidateSet::new);
+
     @Override
     public List<Movie> recommend(User user, List<Movie> movies) {
         List<Movie> recommendedMovies = new ArrayList<>();
@@ -16,6 +21,105 @@ public class GenreBasedRecommendation implements RecommendationStrategy {
         return recommendedMovies;
     }
 
+    @Override
+    public List<Movie> recommend(User user, MovieCatalogue catalogue) {
+        return recommend(user, memoFor(catalogue));
+    }
+
+    @Override
+    public List<List<Movie>> recommendBatch(List<User> users, MovieCatalogue catalogue) {
+        GenreMemo memo = memoFor(catalogue);
+        List<List<Movie>> recommendations = new ArrayList<>(users.size());
+        for (User user : users) {
+            recommendations.add(recommend(user, memo));
+        }
+        return recommendations;
+    }
+
+    @Override
+    public List<Movie> recommend(UserStore users, int index) {
+        MovieCatalogue catalogue = users.catalogue();
+        GenreMemo memo = memoFor(catalogue);
+        if (!memo.hasUniqueIds()) {
+            return RecommendationStrategy.super.recommend(users, index);
+        }
+
+        CandidateSet candidates = scratch.acquire();
+        try {
+            candidates.reset(catalogue.size());
+            int favouriteCount = users.favouriteCount(index);
+            for (int position = 0; position < favouriteCount; position++) {
+                candidates.add(users.favouriteOrdinal(index, position));
+            }
+            List<Movie> recommendedMovies = new ArrayList<>();
+            for (int position = 0; position < favouriteCount; position++) {
+                for (String genre : catalogue.get(users.favouriteOrdinal(index, position)).genres()) {
+                    for (int ordinal : memo.ordinals(genre)) {
+                        if (candidates.add(ordinal)) {
+                            recommendedMovies.add(catalogue.get(ordinal));
+                        }
+                    }
+                }
+            }
+            return recommendedMovies;
+        } finally {
+            scratch.release(candidates);
+        }
+    }
+
+    private List<Movie> recommend(User user, GenreMemo memo) {
+        if (!memo.hasUniqueIds()) {
+            return recommendDistinctMovies(user, memo);
+        }
+
+        MovieCatalogue catalogue = memo.catalogue();
+        CandidateSet candidates = scratch.acquire();
+        try {
+            candidates.reset(catalogue.size());
+            List<Movie> recommendedMovies = new ArrayList<>();
+            for (String favouriteMovieId : user.favouriteMovieIds()) {
+                Movie favouriteMovie = catalogue.findById(favouriteMovieId);
+                if (favouriteMovie == null) {
+                    continue;
+                }
+                for (String genre : favouriteMovie.genres()) {
+                    for (int ordinal : memo.ordinals(genre)) {
+                        if (candidates.add(ordinal)) {
+                            Movie movie = catalogue.get(ordinal);
+                            if (!user.favouriteMovieIds().contains(movie.id())) {
+                                recommendedMovies.add(movie);
+                            }
+                        }
+                    }
+                }
+            }
+            return recommendedMovies;
+        } finally {
+            scratch.release(candidates);
+        }
+    }
+
+    protected GenreMemo memoFor(MovieCatalogue catalogue) {
+        GenreMemo memo = genreMemo;
+        if (memo == null || memo.catalogue() != catalogue) {
+            memo = new GenreMemo(catalogue);
+            genreMemo = memo;
+        }
+        return memo;
+    }
+
+    private List<Movie> recommendDistinctMovies(User user, GenreMemo memo) {
+        MovieCatalogue catalogue = memo.catalogue();
+        Set<Movie> recommendedMovies = new LinkedHashSet<>();
+        for (String favouriteMovieId : user.favouriteMovieIds()) {
+            Movie favouriteMovie = catalogue.findById(favouriteMovieId);
+            if (favouriteMovie != null) {
+                addMoviesByGenre(favouriteMovie.genres(), memo, recommendedMovies, user.favouriteMovieIds());
+            }
+        }
+        return new ArrayList<>(recommendedMovies);
+    }
+
     private Movie findMovieById(String movieId, List<Movie> movies) {
         for (Movie movie : movies) {
             if (movie.id().equals(movieId)) {
@@ -34,4 +138,15 @@ public class GenreBasedRecommendation implements RecommendationStrategy {
             }
         }
     }
+
+    private void addMoviesByGenre(List<String> genres, GenreMemo memo, Set<Movie> recommendedMovies, List<String> favouriteMovieIds) {
+        for (String genre : genres) {
+            for (int ordinal : memo.ordinals(genre)) {
+                Movie movie = memo.catalogue().get(ordinal);
+                if (!favouriteMovieIds.contains(movie.id())) {
+                    recommendedMovies.add(movie);
+                }
+            }
+        }
+    }
 }
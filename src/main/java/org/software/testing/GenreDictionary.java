@@ -0,0 +1,56 @@
+package org.software.testing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GenreDictionary {
+    private final Map<String, Integer> idsByGenre = new HashMap<>();
+    private final List<String> genres = new ArrayList<>();
+
+    public int intern(String genre) {
+        Integer id = idsByGenre.get(genre);
+        if (id == null) {
+            id = genres.size();
+            idsByGenre.put(genre, id);
+            genres.add(genre);
+        }
+        return id;
+    }
+
+    public String canonical(String genre) {
+        return genres.get(intern(genre));
+    }
+
+    public int idOf(String genre) {
+        Integer id = idsByGenre.get(genre);
+        return id == null ? -1 : id;
+    }
+
+    public String genre(int id) {
+        return genres.get(id);
+    }
+
+    public int size() {
+        return genres.size();
+    }
+
+    public int wordCount() {
+        return Math.max(1, (genres.size() + 63) >>> 6);
+    }
+
+    public long[] encode(List<String> movieGenres) {
+        long[] mask = new long[wordCount()];
+        if (movieGenres == null) {
+            return mask;
+        }
+        for (String genre : movieGenres) {
+            int id = idOf(genre);
+            if (id >= 0) {
+                mask[id >>> 6] |= 1L << id;
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,93 @@
+package org.software.testing;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GenreIndex {
+    private static final int[] NO_ORDINALS = new int[0];
+
+    private final MovieCatalogue catalogue;
+    private final int[][] ordinalsByGenreId;
+    private final Map<String, List<Movie>> moviesByGenre;
+
+    private GenreIndex(MovieCatalogue catalogue, int[][] ordinalsByGenreId) {
+        this.catalogue = catalogue;
+        this.ordinalsByGenreId = ordinalsByGenreId;
+        this.moviesByGenre = new HashMap<>();
+        GenreDictionary genreDictionary = catalogue.genreDictionary();
+        for (int genreId = 0; genreId < ordinalsByGenreId.length; genreId++) {
+            int[] ordinals = ordinalsByGenreId[genreId];
+            // Movie postings are views over the ordinal postings rather than a second copy
+            moviesByGenre.put(genreDictionary.genre(genreId), new AbstractList<>() {
+                @Override
+                public Movie get(int index) {
+                    return catalogue.get(ordinals[index]);
+                }
+
+                @Override
+                public int size() {
+                    return ordinals.length;
+                }
+            });
+        }
+    }
+
+    public static GenreIndex build(List<Movie> movies) {
+        return build(new MovieCatalogue(movies));
+    }
+
+    public static GenreIndex build(MovieCatalogue catalogue) {
+        int genreCount = catalogue.genreDictionary().size();
+        int genreWords = catalogue.genreDictionary().wordCount();
+        int[] counts = new int[genreCount];
+        for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+            for (int word = 0; word < genreWords; word++) {
+                for (long bits = catalogue.genreWord(ordinal, word); bits != 0; bits &= bits - 1) {
+                    counts[(word << 6) + Long.numberOfTrailingZeros(bits)]++;
+                }
+            }
+        }
+
+        int[][] ordinalsByGenreId = new int[genreCount][];
+        for (int genreId = 0; genreId < genreCount; genreId++) {
+            ordinalsByGenreId[genreId] = new int[counts[genreId]];
+            counts[genreId] = 0;
+        }
+        for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+            for (int word = 0; word < genreWords; word++) {
+                for (long bits = catalogue.genreWord(ordinal, word); bits != 0; bits &= bits - 1) {
+                    int genreId = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    ordinalsByGenreId[genreId][counts[genreId]++] = ordinal;
+                }
+            }
+        }
+        return new GenreIndex(catalogue, ordinalsByGenreId);
+    }
+
+    public MovieCatalogue catalogue() {
+        return catalogue;
+    }
+
+    public List<Movie> movies() {
+        return catalogue.movies();
+    }
+
+    public Movie findMovieById(String movieId) {
+        return catalogue.findById(movieId);
+    }
+
+    public List<Movie> moviesByGenre(String genre) {
+        return moviesByGenre.getOrDefault(genre, Collections.emptyList());
+    }
+
+    public int[] ordinalsByGenre(String genre) {
+        return ordinalsByGenre(catalogue.genreDictionary().idOf(genre));
+    }
+
+    public int[] ordinalsByGenre(int genreId) {
+        return genreId < 0 || genreId >= ordinalsByGenreId.length ? NO_ORDINALS : ordinalsByGenreId[genreId];
+    }
+}
@@ -0,0 +1,36 @@
+package org.software.testing;
+
+public class GenreMemo {
+    private final GenreIndex index;
+    private final boolean uniqueIds;
+
+    public GenreMemo(MovieCatalogue catalogue) {
+        this(GenreIndex.build(catalogue));
+    }
+
+    public GenreMemo(GenreIndex index) {
+        this.index = index;
+        MovieCatalogue catalogue = index.catalogue();
+        boolean uniqueIds = true;
+        for (int ordinal = 0; ordinal < catalogue.size() && uniqueIds; ordinal++) {
+            uniqueIds = catalogue.ordinalOf(catalogue.get(ordinal).id()) == ordinal;
+        }
+        this.uniqueIds = uniqueIds;
+    }
+
+    public MovieCatalogue catalogue() {
+        return index.catalogue();
+    }
+
+    public int[] ordinals(int genreId) {
+        return index.ordinalsByGenre(genreId);
+    }
+
+    public int[] ordinals(String genre) {
+        return index.ordinalsByGenre(genre);
+    }
+
+    public boolean hasUniqueIds() {
+        return uniqueIds;
+    }
+}
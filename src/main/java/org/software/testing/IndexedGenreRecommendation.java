@@ -0,0 +1,78 @@
+package org.software.testing;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class IndexedGenreRecommendation implements RecommendationStrategy {
+    private volatile GenreIndex genreIndex;
+
+    public IndexedGenreRecommendation() {
+    }
+
+    public IndexedGenreRecommendation(GenreIndex genreIndex) {
+        this.genreIndex = genreIndex;
+    }
+
+    @Override
+    public List<Movie> recommend(User user, List<Movie> movies) {
+        return recommend(user, indexFor(movies));
+    }
+
+    @Override
+    public List<Movie> recommend(User user, MovieCatalogue catalogue) {
+        return recommend(user, indexFor(catalogue));
+    }
+
+    @Override
+    public List<List<Movie>> recommendBatch(List<User> users, MovieCatalogue catalogue) {
+        GenreIndex index = indexFor(catalogue);
+        List<List<Movie>> recommendations = new ArrayList<>(users.size());
+        for (User user : users) {
+            recommendations.add(recommend(user, index));
+        }
+        return recommendations;
+    }
+
+    public List<Movie> recommend(User user, GenreIndex index) {
+        Set<String> favouriteMovieIds = new HashSet<>(user.favouriteMovieIds());
+        Set<Movie> recommendedMovies = new LinkedHashSet<>();
+        for (String favouriteMovieId : user.favouriteMovieIds()) {
+            Movie favouriteMovie = index.findMovieById(favouriteMovieId);
+            if (favouriteMovie != null) {
+                addMoviesByGenre(favouriteMovie.genres(), index, recommendedMovies, favouriteMovieIds);
+            }
+        }
+        return new ArrayList<>(recommendedMovies);
+    }
+
+    protected GenreIndex indexFor(List<Movie> movies) {
+        GenreIndex index = genreIndex;
+        if (index == null || index.movies() != movies) {
+            index = GenreIndex.build(movies);
+            genreIndex = index;
+        }
+        return index;
+    }
+
+    protected GenreIndex indexFor(MovieCatalogue catalogue) {
+        GenreIndex index = genreIndex;
+        if (index == null || index.catalogue() != catalogue) {
+            index = GenreIndex.build(catalogue);
+            genreIndex = index;
+        }
+        return index;
+    }
+
+    private void addMoviesByGenre(List<String> genres, GenreIndex index, Set<Movie> recommendedMovies, Set<String> favouriteMovieIds) {
+        for (String genre : genres) {
+            for (Movie movie : index.moviesByGenre(genre)) {
+                if (!favouriteMovieIds.contains(movie.id())) {
+                    recommendedMovies.add(movie);
+                }
+            }
+        }
+    }
+}
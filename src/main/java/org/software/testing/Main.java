@@ -1,54 +1,218 @@
 package org.software.testing;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 public class Main {
     private final static String MOVIE_FILE_PATH = "movies.txt";
     private final static String USER_FILE_PATH = "users.txt";
     private final static String RECOMMENDATIONS_FILE_PATH = "recommendations.txt";
     private final static String ERROR_FILE_PATH = "errors.txt";
+    private final static String PIPELINE_FLAG = "--pipeline";
+    private final static String OFF_HEAP_FLAG = "--off-heap";
+    private final static String TOP_FLAG_PREFIX = "--top=";
+    private final static String SNAPSHOT_SUFFIX = ".snapshot";
+    private final static int RECOMMENDATION_CACHE_SIZE = 10_000;
+    private final static long RECOMMENDATION_CACHE_MOVIES = 1_000_000;
+    private final static String USAGE = "Usage: [" + PIPELINE_FLAG + " [" + TOP_FLAG_PREFIX + "K]] | [" + OFF_HEAP_FLAG + "]";
+    private final static int USAGE_ERROR_CODE = 64;
 
     public static void main(String[] args) throws IOException {
-        List<User> users = FileReader.readUsers(USER_FILE_PATH);
-        List<Movie> movies = FileReader.readMovies(MOVIE_FILE_PATH);
+        int limit;
+        try {
+            limit = parseLimit(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println(USAGE);
+            System.exit(USAGE_ERROR_CODE);
+            return;
+        }
+
+        if (Arrays.asList(args).contains(OFF_HEAP_FLAG)) {
+            try {
+                runOffHeapPipeline(USER_FILE_PATH, MOVIE_FILE_PATH, RECOMMENDATIONS_FILE_PATH);
+            } catch (AppException e) {
+                reportError(e);
+            }
+            return;
+        }
+        if (Arrays.asList(args).contains(PIPELINE_FLAG)) {
+            try {
+                runPipeline(USER_FILE_PATH, MOVIE_FILE_PATH, RECOMMENDATIONS_FILE_PATH, limit);
+            } catch (AppException e) {
+                reportError(e);
+            }
+            return;
+        }
+
+        List<User> users = FileReader.readUsersInParallel(USER_FILE_PATH);
+        MovieCatalogue catalogue = FileReader.readCatalogue(MOVIE_FILE_PATH);
 
         try {
-            ValidationService validationService = new ValidationService(movies, users);
+            ValidationService validationService = new ValidationService(catalogue, users);
             validationService.validate();
 
             RecommendationStrategy recommendationStrategy = new GenreBasedRecommendation();
             MovieRecommendationService movieRecommendationService = new MovieRecommendationService(recommendationStrategy);
-            Map<User, List<Movie>> recommendations = movieRecommendationService.generateRecommendations(users, movies);
-
-            String output = buildOutput(recommendations);
-            FileWriter.writeToFile(RECOMMENDATIONS_FILE_PATH, output);
+            writeOutput(movieRecommendationService, users, catalogue, RECOMMENDATIONS_FILE_PATH);
         } catch (AppException e) {
-            System.out.println(e.getMessage() + ", Id: " + e.getErrorCode().getCode());
-            boolean isWritten = FileWriter.writeToFile(ERROR_FILE_PATH, "ERROR: " + e.getMessage());
-            if (!isWritten) {
-                System.out.println("Error written to file: " + ERROR_FILE_PATH);
+            reportError(e);
+        }
+    }
+
+    public static void runPipeline(String userPath, String moviePath, String outputPath) throws IOException {
+        runPipeline(userPath, moviePath, outputPath, Integer.MAX_VALUE);
+    }
+
+    public static void runPipeline(String userPath, String moviePath, String outputPath, int limit) throws IOException {
+        MovieCatalogue catalogue = loadCatalogue(moviePath);
+        ValidationService validationService = new ValidationService(catalogue, List.of());
+
+        RecommendationStrategy recommendationStrategy = new CachingRecommendation(limit == Integer.MAX_VALUE
+                ? new IndexedGenreRecommendation()
+                : new TopKGenreRecommendation(limit), RECOMMENDATION_CACHE_SIZE, RECOMMENDATION_CACHE_MOVIES);
+        Set<String> seenUserIds = new HashSet<>();
+        streamUsers(userPath, outputPath, (recordBuilder, user) -> {
+            validationService.validateUser(user, seenUserIds);
+            appendRecommendations(recordBuilder, user, recommendationStrategy.recommend(user, catalogue, limit));
+        });
+    }
+
+    public static void runOffHeapPipeline(String userPath, String moviePath, String outputPath) throws IOException {
+        String snapshotPath = moviePath + SNAPSHOT_SUFFIX;
+        if (!CatalogueSnapshot.isCurrent(snapshotPath, moviePath)) {
+            FileWriter.writeSnapshot(parseCatalogue(moviePath), snapshotPath, moviePath);
+        }
+
+        try (OffHeapMovieCatalogue catalogue = OffHeapMovieCatalogue.open(snapshotPath)) {
+            ValidationService validationService = new ValidationService(catalogue, List.of());
+            OffHeapGenreRecommendation recommendation = new OffHeapGenreRecommendation();
+            OffHeapMovieCatalogue.MovieView movie = catalogue.view();
+            Set<String> seenUserIds = new HashSet<>();
+            streamUsers(userPath, outputPath, (recordBuilder, user) -> {
+                validationService.validateUser(user, seenUserIds);
+                appendRecommendations(recordBuilder, user, movie, recommendation.recommend(user, catalogue));
+            });
+        }
+    }
+
+    private static void streamUsers(String userPath, String outputPath, BiConsumer<StringBuilder, User> recordAppender) throws IOException {
+        StringBuilder recordBuilder = new StringBuilder();
+        Path output = Path.of(outputPath);
+        Path pendingOutput = output.resolveSibling(output.getFileName() + ".tmp");
+        try (UserFileReader users = FileReader.openUsers(userPath);
+             StreamingFileWriter writer = FileWriter.open(pendingOutput.toString())) {
+            while (users.hasNext()) {
+                recordBuilder.setLength(0);
+                recordAppender.accept(recordBuilder, users.next());
+                writer.write(recordBuilder);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(pendingOutput);
+            throw e;
+        }
+        Files.move(pendingOutput, output, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static MovieCatalogue loadCatalogue(String moviePath) throws IOException {
+        String snapshotPath = moviePath + SNAPSHOT_SUFFIX;
+        if (CatalogueSnapshot.isCurrent(snapshotPath, moviePath)) {
+            return FileReader.readSnapshot(snapshotPath);
+        }
+
+        MovieCatalogue catalogue = parseCatalogue(moviePath);
+        try {
+            FileWriter.writeSnapshot(catalogue, snapshotPath, moviePath);
+        } catch (IOException e) {
+            System.out.println("Could not write catalogue snapshot: " + e.getMessage());
+        }
+        return catalogue;
+    }
+
+    private static MovieCatalogue parseCatalogue(String moviePath) throws IOException {
+        MovieCatalogue catalogue = FileReader.mapCatalogue(moviePath);
+        new ValidationService(catalogue, List.of()).validateMovies();
+        return catalogue;
+    }
+
+    static int parseLimit(String[] args) {
+        List<String> arguments = Arrays.asList(args);
+        int limit = Integer.MAX_VALUE;
+        for (String arg : arguments) {
+            if (!arg.startsWith(TOP_FLAG_PREFIX)) {
+                continue;
+            }
+            if (!arguments.contains(PIPELINE_FLAG) || arguments.contains(OFF_HEAP_FLAG)) {
+                throw new IllegalArgumentException(TOP_FLAG_PREFIX + "K is only supported with " + PIPELINE_FLAG);
+            }
+            String value = arg.substring(TOP_FLAG_PREFIX.length());
+            try {
+                limit = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                limit = 0;
+            }
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Invalid " + TOP_FLAG_PREFIX + "K value '" + value + "', expected a positive integer");
+            }
+        }
+        return limit;
+    }
+
+    private static void reportError(AppException e) {
+        System.out.println(e.getMessage() + ", Id: " + e.getErrorCode().getCode());
+        boolean isWritten = FileWriter.writeToFile(ERROR_FILE_PATH, "ERROR: " + e.getMessage());
+        if (!isWritten) {
+            System.out.println("Error written to file: " + ERROR_FILE_PATH);
+        }
+        System.exit(e.getErrorCode().getCode());
+    }
+
+    static void writeOutput(MovieRecommendationService movieRecommendationService, List<User> users,
+                            MovieCatalogue catalogue, String outputPath) throws IOException {
+        StringBuilder recordBuilder = new StringBuilder();
+        Path output = Path.of(outputPath);
+        Path pendingOutput = output.resolveSibling(output.getFileName() + ".tmp");
+        try (StreamingFileWriter writer = FileWriter.open(pendingOutput.toString())) {
+            movieRecommendationService.generateRecommendationsInParallel(users, catalogue, (user, recommendedMovies) -> {
+                recordBuilder.setLength(0);
+                appendRecommendations(recordBuilder, user, recommendedMovies);
+                writer.write(recordBuilder);
+            });
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(pendingOutput);
+            throw e;
+        }
+        Files.move(pendingOutput, output, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void appendRecommendations(StringBuilder outputBuilder, User user, List<Movie> recommendedMovies) {
+        outputBuilder.append(user.name()).append(", ").append(user.id()).append("\n");
+        for (int index = 0; index < recommendedMovies.size(); index++) {
+            Movie movie = recommendedMovies.get(index);
+            outputBuilder.append(movie.title());
+            if (index != recommendedMovies.size() - 1) {
+                outputBuilder.append(", ");
             }
-            System.exit(e.getErrorCode().getCode());
         }
+        outputBuilder.append("\n");
     }
 
-    private static String buildOutput(Map<User, List<Movie>> recommendations) {
-        StringBuilder outputBuilder = new StringBuilder();
-        for (Map.Entry<User, List<Movie>> entry : recommendations.entrySet()) {
-            User user = entry.getKey();
-            List<Movie> recommendedMovies = entry.getValue();
-            outputBuilder.append(user.name()).append(", ").append(user.id()).append("\n");
-            for (int index = 0; index < recommendedMovies.size(); index++) {
-                Movie movie = recommendedMovies.get(index);
-                outputBuilder.append(movie.title());
-                if (index != recommendedMovies.size() - 1) {
-                    outputBuilder.append(", ");
-                }
+    private static void appendRecommendations(StringBuilder outputBuilder, User user,
+                                              OffHeapMovieCatalogue.MovieView movie, int[] recommendedOrdinals) {
+        outputBuilder.append(user.name()).append(", ").append(user.id()).append("\n");
+        for (int index = 0; index < recommendedOrdinals.length; index++) {
+            outputBuilder.append(movie.moveTo(recommendedOrdinals[index]).title());
+            if (index != recommendedOrdinals.length - 1) {
+                outputBuilder.append(", ");
             }
-            outputBuilder.append("\n");
         }
-        return outputBuilder.toString();
+        outputBuilder.append("\n");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package org.software.testing;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MappedMovieLoader {
+    private final MemorySegment segment;
+    private final long size;
+    private long position;
+
+    private final List<byte[]> genreBytes = new ArrayList<>();
+    private final List<String> genreNames = new ArrayList<>();
+
+    private MappedMovieLoader(MemorySegment segment) {
+        this.segment = segment;
+        this.size = segment.byteSize();
+    }
+
+    public static MovieCatalogue load(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                return new MovieCatalogue(new ArrayList<>());
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize, arena);
+            return new MappedMovieLoader(segment).parse();
+        }
+    }
+
+    private MovieCatalogue parse() {
+        List<Movie> movies = new ArrayList<>();
+        while (position < size) {
+            long movieLineStart = position;
+            long movieLineEnd = lineEnd(movieLineStart);
+            position = nextLine(movieLineEnd);
+            long genreLineStart = position;
+            if (genreLineStart >= size) {
+                throw new IndexOutOfBoundsException("Missing genres line for movie " + decode(movieLineStart, movieLineEnd));
+            }
+            long genreLineEnd = lineEnd(genreLineStart);
+            position = nextLine(genreLineEnd);
+
+            movies.add(parseMovie(movieLineStart, movieLineEnd, genreLineStart, genreLineEnd));
+        }
+        return new MovieCatalogue(movies);
+    }
+
+    // Mirrors FileReader.readMovies: "title,id" split on commas, then comma separated genres, all trimmed.
+    private Movie parseMovie(long movieLineStart, long movieLineEnd, long genreLineStart, long genreLineEnd) {
+        long titleEnd = indexOf((byte) ',', movieLineStart, movieLineEnd);
+        long idStart = titleEnd + 1;
+        long idEnd = indexOf((byte) ',', idStart, movieLineEnd);
+        if (titleEnd == movieLineEnd || onlyCommas(idStart, movieLineEnd)) {
+            throw new IndexOutOfBoundsException("Missing movie ID in line " + decode(movieLineStart, movieLineEnd));
+        }
+        String title = decodeTrimmed(movieLineStart, titleEnd);
+        String id = decodeTrimmed(idStart, idEnd);
+
+        List<String> genres = new ArrayList<>();
+        if (genreLineStart == genreLineEnd) {
+            genres.add(internGenre(genreLineStart, genreLineEnd));
+        } else {
+            long lastTokenEnd = genreLineEnd;
+            while (lastTokenEnd > genreLineStart && byteAt(lastTokenEnd - 1) == ',') {
+                lastTokenEnd--;
+            }
+            long tokenStart = genreLineStart;
+            while (tokenStart < lastTokenEnd) {
+                long tokenEnd = indexOf((byte) ',', tokenStart, lastTokenEnd);
+                genres.add(internGenre(tokenStart, tokenEnd));
+                tokenStart = tokenEnd + 1;
+            }
+        }
+        return new Movie(title, id, genres);
+    }
+
+    private String internGenre(long start, long end) {
+        while (start < end && isTrimmable(byteAt(start))) {
+            start++;
+        }
+        while (end > start && isTrimmable(byteAt(end - 1))) {
+            end--;
+        }
+        int length = (int) (end - start);
+        // Catalogues hold only a few dozen genres, so a scan beats hashing and avoids allocating per token
+        for (int id = 0; id < genreBytes.size(); id++) {
+            byte[] candidate = genreBytes.get(id);
+            if (candidate.length == length && matches(candidate, start)) {
+                return genreNames.get(id);
+            }
+        }
+        byte[] bytes = segment.asSlice(start, length).toArray(ValueLayout.JAVA_BYTE);
+        String genre = new String(bytes, StandardCharsets.UTF_8);
+        genreBytes.add(bytes);
+        genreNames.add(genre);
+        return genre;
+    }
+
+    private boolean matches(byte[] candidate, long start) {
+        for (int i = 0; i < candidate.length; i++) {
+            if (candidate[i] != byteAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decodeTrimmed(long start, long end) {
+        while (start < end && isTrimmable(byteAt(start))) {
+            start++;
+        }
+        while (end > start && isTrimmable(byteAt(end - 1))) {
+            end--;
+        }
+        return decode(start, end);
+    }
+
+    private String decode(long start, long end) {
+        byte[] bytes = segment.asSlice(start, end - start).toArray(ValueLayout.JAVA_BYTE);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean onlyCommas(long start, long end) {
+        for (long i = start; i < end; i++) {
+            if (byteAt(i) != ',') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long indexOf(byte value, long start, long end) {
+        for (long i = start; i < end; i++) {
+            if (byteAt(i) == value) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private long lineEnd(long start) {
+        long i = start;
+        while (i < size) {
+            byte b = byteAt(i);
+            if (b == '\n' || b == '\r') {
+                return i;
+            }
+            i++;
+        }
+        return size;
+    }
+
+    private long nextLine(long lineEnd) {
+        if (lineEnd >= size) {
+            return size;
+        }
+        if (byteAt(lineEnd) == '\r' && lineEnd + 1 < size && byteAt(lineEnd + 1) == '\n') {
+            return lineEnd + 2;
+        }
+        return lineEnd + 1;
+    }
+
+    private byte byteAt(long index) {
+        return segment.get(ValueLayout.JAVA_BYTE, index);
+    }
+
+    private static boolean isTrimmable(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
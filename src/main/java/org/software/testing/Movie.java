@@ -1,18 +1,29 @@
 package org.software.testing;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 
 public record Movie(String title, String id, List<String> genres) {
 
+    public Movie {
+        genres = CanonicalList.of(genres);
+    }
+
     @Override
     public boolean equals(Object o) {
+        if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Movie movie = (Movie) o;
         return Objects.equals(title, movie.title)
                 && Objects.equals(id, movie.id)
-                && Objects.equals(new HashSet<>(genres), new HashSet<>(movie.genres));
+                && CanonicalList.sameElements((CanonicalList) genres, (CanonicalList) movie.genres);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(title);
+        result = 31 * result + Objects.hashCode(id);
+        return 31 * result + CanonicalList.setHashCode((CanonicalList) genres);
     }
 
     @Override
@@ -0,0 +1,105 @@
+package org.software.testing;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MovieCatalogue {
+    private final List<Movie> movies;
+    private final Map<String, Integer> ordinalsById;
+    private final GenreDictionary genreDictionary;
+    private final int genreWords;
+    private final long[] genreBits;
+
+    public MovieCatalogue(List<Movie> movies) {
+        this.movies = movies;
+        this.ordinalsById = indexIds(movies);
+        this.genreDictionary = new GenreDictionary();
+        for (Movie movie : movies) {
+            if (movie.genres() != null) {
+                for (String genre : movie.genres()) {
+                    genreDictionary.intern(genre);
+                }
+            }
+        }
+
+        this.genreWords = genreDictionary.wordCount();
+        this.genreBits = new long[movies.size() * genreWords];
+        for (int ordinal = 0; ordinal < movies.size(); ordinal++) {
+            long[] mask = genreDictionary.encode(movies.get(ordinal).genres());
+            System.arraycopy(mask, 0, genreBits, ordinal * genreWords, genreWords);
+        }
+    }
+
+    MovieCatalogue(List<Movie> movies, GenreDictionary genreDictionary, long[] genreBits) {
+        this.movies = movies;
+        this.ordinalsById = indexIds(movies);
+        this.genreDictionary = genreDictionary;
+        this.genreWords = genreDictionary.wordCount();
+        this.genreBits = genreBits;
+    }
+
+    private static Map<String, Integer> indexIds(List<Movie> movies) {
+        Map<String, Integer> ordinalsById = new HashMap<>();
+        for (int ordinal = 0; ordinal < movies.size(); ordinal++) {
+            ordinalsById.putIfAbsent(movies.get(ordinal).id(), ordinal);
+        }
+        return ordinalsById;
+    }
+
+    public List<Movie> movies() {
+        return movies;
+    }
+
+    public int size() {
+        return movies.size();
+    }
+
+    public Movie get(int ordinal) {
+        return movies.get(ordinal);
+    }
+
+    public int ordinalOf(String movieId) {
+        Integer ordinal = ordinalsById.get(movieId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public Movie findById(String movieId) {
+        Integer ordinal = ordinalsById.get(movieId);
+        return ordinal == null ? null : movies.get(ordinal);
+    }
+
+    public boolean contains(String movieId) {
+        return ordinalsById.containsKey(movieId);
+    }
+
+    public GenreDictionary genreDictionary() {
+        return genreDictionary;
+    }
+
+    public boolean hasGenre(int ordinal, int genreId) {
+        if (genreId < 0) {
+            return false;
+        }
+        return (genreBits[ordinal * genreWords + (genreId >>> 6)] & (1L << genreId)) != 0;
+    }
+
+    public long genreWord(int ordinal, int word) {
+        return genreBits[ordinal * genreWords + word];
+    }
+
+    public boolean sharesGenre(int ordinal, long[] genreMask) {
+        int base = ordinal * genreWords;
+        for (int word = 0; word < genreWords; word++) {
+            if ((genreBits[base + word] & genreMask[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long[] genreMask(int ordinal) {
+        return Arrays.copyOfRange(genreBits, ordinal * genreWords, (ordinal + 1) * genreWords);
+    }
+}
@@ -1,14 +1,41 @@
 package org.software.testing;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 public class MovieRecommendationService {
+    private static final int BATCH_SIZE = 1024;
+    private static final int PARALLEL_CHUNK_SIZE = 256;
+    private static final int SINK_CHUNKS_PER_THREAD = 2;
+    private static final int VIRTUAL_THREAD_BUFFER_FACTOR = 4;
+
     RecommendationStrategy recommendationStrategy;
+    private final ForkJoinPool pool;
 
     public MovieRecommendationService(RecommendationStrategy recommendationStrategy) {
+        this(recommendationStrategy, ForkJoinPool.commonPool());
+    }
+
+    public MovieRecommendationService(RecommendationStrategy recommendationStrategy, ForkJoinPool pool) {
         this.recommendationStrategy = recommendationStrategy;
+        this.pool = pool;
     }
 
     public Map<User, List<Movie>> generateRecommendations(List<User> users, List<Movie> movies) {
@@ -18,4 +45,195 @@ public class MovieRecommendationService {
         }
         return recommendations;
     }
+
+    public Map<User, List<Movie>> generateRecommendations(List<User> users, MovieCatalogue catalogue) {
+        Map<User, List<Movie>> recommendations = new HashMap<>();
+        recommendInBatches(users, catalogue, recommendations);
+        return recommendations;
+    }
+
+    public Map<User, List<Movie>> generateRecommendations(List<User> users, MovieCatalogue catalogue, int limit) {
+        Map<User, List<Movie>> recommendations = new HashMap<>();
+        for (int start = 0; start < users.size(); start += BATCH_SIZE) {
+            List<User> batch = users.subList(start, Math.min(start + BATCH_SIZE, users.size()));
+            List<List<Movie>> batchRecommendations = recommendationStrategy.recommendBatch(batch, catalogue, limit);
+            for (int index = 0; index < batch.size(); index++) {
+                recommendations.put(batch.get(index), batchRecommendations.get(index));
+            }
+        }
+        return recommendations;
+    }
+
+    public void generateRecommendations(List<User> users, MovieCatalogue catalogue, RecommendationSink sink) throws IOException {
+        for (int start = 0; start < users.size(); start += BATCH_SIZE) {
+            List<User> batch = users.subList(start, Math.min(start + BATCH_SIZE, users.size()));
+            List<List<Movie>> batchRecommendations = recommendationStrategy.recommendBatch(batch, catalogue);
+            for (int index = 0; index < batch.size(); index++) {
+                sink.accept(batch.get(index), batchRecommendations.get(index));
+            }
+        }
+    }
+
+    // Only the users reachable from the delta through the index are visited; new users belong in delta.changedUsers().
+    public Map<User, List<Movie>> updateRecommendations(Map<User, List<Movie>> previous, FavouriteIndex index,
+                                                       MovieCatalogue catalogue, RecommendationDelta delta) {
+        FavouriteIndex.Update update = index.apply(delta, catalogue);
+        Map<User, List<Movie>> recommendations = new HashMap<>(previous);
+        for (User replaced : update.replacedUsers()) {
+            recommendations.remove(replaced);
+        }
+        recommendInBatches(update.affectedUsers(), catalogue, recommendations);
+        return recommendations;
+    }
+
+    public Map<User, List<Movie>> generateRecommendationsInParallel(List<User> users, List<Movie> movies) {
+        return generateInParallel(users, user -> recommendationStrategy.recommend(user, movies));
+    }
+
+    public Map<User, List<Movie>> generateRecommendationsInParallel(List<User> users, MovieCatalogue catalogue) {
+        List<User> snapshot = List.copyOf(users);
+        int chunkCount = (snapshot.size() + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        List<List<List<Movie>>> chunks = pool.submit(() -> IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(chunk -> recommendationStrategy.recommendBatch(chunkOf(snapshot, chunk), catalogue))
+                .toList())
+                .join();
+
+        Map<User, List<Movie>> recommendations = new LinkedHashMap<>();
+        int index = 0;
+        for (List<List<Movie>> chunk : chunks) {
+            for (List<Movie> recommendedMovies : chunk) {
+                recommendations.put(snapshot.get(index++), recommendedMovies);
+            }
+        }
+        return recommendations;
+    }
+
+    // Chunks run on the pool while the caller drains them in input order; at most a few chunks per
+    // pool thread are buffered, so the sink overlaps with compute without holding every result.
+    public void generateRecommendationsInParallel(List<User> users, MovieCatalogue catalogue, RecommendationSink sink) throws IOException {
+        List<User> snapshot = List.copyOf(users);
+        int window = Math.max(1, pool.getParallelism()) * SINK_CHUNKS_PER_THREAD;
+        Deque<CompletableFuture<List<List<Movie>>>> pending = new ArrayDeque<>();
+        int chunkCount = (snapshot.size() + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        int nextChunk = 0;
+        int nextUser = 0;
+        try {
+            while (nextUser < snapshot.size()) {
+                while (pending.size() < window && nextChunk < chunkCount) {
+                    List<User> chunkUsers = chunkOf(snapshot, nextChunk++);
+                    pending.addLast(CompletableFuture.supplyAsync(() -> recommendationStrategy.recommendBatch(chunkUsers, catalogue), pool));
+                }
+
+                List<List<Movie>> chunk = pending.removeFirst().join();
+                for (List<Movie> recommendedMovies : chunk) {
+                    sink.accept(snapshot.get(nextUser++), recommendedMovies);
+                }
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            for (CompletableFuture<List<List<Movie>>> future : pending) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    public Map<User, List<Movie>> generateRecommendationsOnVirtualThreads(List<User> users, MovieCatalogue catalogue, int maxConcurrency) {
+        Map<User, List<Movie>> recommendations = new LinkedHashMap<>();
+        try {
+            generateRecommendationsOnVirtualThreads(users, catalogue, maxConcurrency, recommendations::put);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return recommendations;
+    }
+
+    // One virtual thread per user for strategies that block on I/O. At most maxConcurrency calls run
+    // at once, and submission stalls once a few times that many results wait behind a slow head.
+    public void generateRecommendationsOnVirtualThreads(List<User> users, MovieCatalogue catalogue, int maxConcurrency,
+                                                        RecommendationSink sink) throws IOException {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive: " + maxConcurrency);
+        }
+        int bufferLimit = maxConcurrency * VIRTUAL_THREAD_BUFFER_FACTOR;
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Deque<Future<List<Movie>>> pending = new ArrayDeque<>();
+        Deque<User> pendingUsers = new ArrayDeque<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (User user : users) {
+                    while (!pending.isEmpty() && (pending.size() >= bufferLimit || pending.peekFirst().isDone())) {
+                        sink.accept(pendingUsers.removeFirst(), await(pending.removeFirst()));
+                    }
+                    permits.acquire();
+                    pending.addLast(executor.submit(() -> {
+                        try {
+                            return recommendationStrategy.recommend(user, catalogue);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                    pendingUsers.addLast(user);
+                }
+                while (!pending.isEmpty()) {
+                    sink.accept(pendingUsers.removeFirst(), await(pending.removeFirst()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while generating recommendations");
+            } finally {
+                for (Future<List<Movie>> future : pending) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    private static List<Movie> await(Future<List<Movie>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void recommendInBatches(List<User> users, MovieCatalogue catalogue, Map<User, List<Movie>> recommendations) {
+        for (int start = 0; start < users.size(); start += BATCH_SIZE) {
+            List<User> batch = users.subList(start, Math.min(start + BATCH_SIZE, users.size()));
+            List<List<Movie>> batchRecommendations = recommendationStrategy.recommendBatch(batch, catalogue);
+            for (int index = 0; index < batch.size(); index++) {
+                recommendations.put(batch.get(index), batchRecommendations.get(index));
+            }
+        }
+    }
+
+    private static List<User> chunkOf(List<User> users, int chunk) {
+        int start = chunk * PARALLEL_CHUNK_SIZE;
+        return users.subList(start, Math.min(start + PARALLEL_CHUNK_SIZE, users.size()));
+    }
+
+    private Map<User, List<Movie>> generateInParallel(List<User> users, Function<User, List<Movie>> recommender) {
+        List<User> snapshot = List.copyOf(users);
+        List<List<Movie>> results = pool.submit(() -> IntStream.range(0, snapshot.size())
+                .parallel()
+                .mapToObj(index -> recommender.apply(snapshot.get(index)))
+                .toList())
+                .join();
+
+        Map<User, List<Movie>> recommendations = new LinkedHashMap<>();
+        for (int index = 0; index < results.size(); index++) {
+            recommendations.put(snapshot.get(index), results.get(index));
+        }
+        return recommendations;
+    }
 }
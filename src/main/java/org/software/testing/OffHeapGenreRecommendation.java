@@ -0,0 +1,47 @@
+package org.software.testing;
+
+import java.util.Arrays;
+
+// Same candidates and order as GenreBasedRecommendation, as ordinals into an OffHeapMovieCatalogue.
+// Not a RecommendationStrategy: that API is defined over on-heap Movie records and MovieCatalogue,
+// and returning ordinals is what keeps the off-heap pipeline from materialising movies.
+public class OffHeapGenreRecommendation {
+    private final ScratchPool<CandidateSet> scratch = new ScratchPool<>(CandidateSet::new);
+
+    public int[] recommend(User user, OffHeapMovieCatalogue catalogue) {
+        CandidateSet candidates = scratch.acquire();
+        try {
+            candidates.reset(catalogue.size());
+            int[] favouriteOrdinals = new int[user.favouriteMovieIds().size()];
+            for (int index = 0; index < favouriteOrdinals.length; index++) {
+                favouriteOrdinals[index] = catalogue.ordinalOf(user.favouriteMovieIds().get(index));
+                if (favouriteOrdinals[index] >= 0) {
+                    candidates.add(favouriteOrdinals[index]);
+                }
+            }
+
+            int[] recommendedOrdinals = new int[16];
+            int recommendedCount = 0;
+            for (int favouriteOrdinal : favouriteOrdinals) {
+                if (favouriteOrdinal < 0) {
+                    continue;
+                }
+                for (int position = 0; position < catalogue.genreCount(favouriteOrdinal); position++) {
+                    int genreId = catalogue.genreId(favouriteOrdinal, position);
+                    for (int index = 0; index < catalogue.postingCount(genreId); index++) {
+                        int ordinal = catalogue.posting(genreId, index);
+                        if (candidates.add(ordinal)) {
+                            if (recommendedCount == recommendedOrdinals.length) {
+                                recommendedOrdinals = Arrays.copyOf(recommendedOrdinals, recommendedCount * 2);
+                            }
+                            recommendedOrdinals[recommendedCount++] = ordinal;
+                        }
+                    }
+                }
+            }
+            return Arrays.copyOf(recommendedOrdinals, recommendedCount);
+        } finally {
+            scratch.release(candidates);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package org.software.testing;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads titles, IDs, genre bitmasks and genre lists straight from a mapped CatalogueSnapshot.
+// The ID hash table and per-genre postings are built off-heap too; only genre names are on-heap.
+public class OffHeapMovieCatalogue implements AutoCloseable {
+    private static final ValueLayout.OfInt INT = CatalogueSnapshot.INT;
+    private static final ValueLayout.OfLong LONG = CatalogueSnapshot.LONG;
+    private static final int EMPTY_SLOT = -1;
+
+    private final Arena arena;
+    private final MemorySegment file;
+    private final int size;
+    private final GenreDictionary genreDictionary;
+    private final int genreWords;
+    private final long bitsPosition;
+    private final long blobPosition;
+    private final long offsetsPosition;
+    private final MemorySegment genreListPositions;
+    private final MemorySegment idSlots;
+    private final int idSlotMask;
+    private final MemorySegment genrePostings;
+    private final long[] postingStarts;
+
+    private OffHeapMovieCatalogue(Arena arena, MemorySegment file) throws IOException {
+        this.arena = arena;
+        this.file = file;
+        this.size = file.get(INT, 24);
+        int genreCount = file.get(INT, 28);
+        this.offsetsPosition = file.get(LONG, 32);
+        if (size < 0 || genreCount < 0) {
+            throw new IllegalArgumentException("Negative count in snapshot header");
+        }
+
+        long position = CatalogueSnapshot.HEADER_SIZE;
+        this.genreDictionary = new GenreDictionary();
+        for (int genreId = 0; genreId < genreCount; genreId++) {
+            int length = file.get(INT, position);
+            genreDictionary.intern(decode(position + Integer.BYTES, position + Integer.BYTES + length));
+            position += Integer.BYTES + length;
+        }
+        this.genreWords = genreDictionary.wordCount();
+        this.bitsPosition = position;
+        position += (long) size * genreWords * Long.BYTES;
+
+        this.genreListPositions = arena.allocate((long) size * Long.BYTES, Long.BYTES);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            genreListPositions.setAtIndex(ValueLayout.JAVA_LONG, ordinal, position);
+            position += Integer.BYTES + (long) Integer.BYTES * file.get(INT, position);
+        }
+        this.blobPosition = position;
+
+        long slotCount = Long.highestOneBit(Math.max(2L, 2L * size) - 1) << 1;
+        this.idSlots = arena.allocate(slotCount * Integer.BYTES, Integer.BYTES);
+        idSlots.fill((byte) 0xFF);
+        this.idSlotMask = Math.toIntExact(slotCount - 1);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            long idStart = stringStart(2 * ordinal + 1);
+            long idEnd = stringStart(2 * ordinal + 2);
+            int slot = hash(idStart, idEnd) & idSlotMask;
+            int occupant;
+            while ((occupant = idSlots.getAtIndex(ValueLayout.JAVA_INT, slot)) != EMPTY_SLOT) {
+                if (sameBytes(occupant, idStart, idEnd)) {
+                    throw new IOException("Catalogue snapshot has duplicate movie ID " + id(ordinal));
+                }
+                slot = (slot + 1) & idSlotMask;
+            }
+            idSlots.setAtIndex(ValueLayout.JAVA_INT, slot, ordinal);
+        }
+
+        this.postingStarts = new long[genreCount + 1];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            for (int word = 0; word < genreWords; word++) {
+                for (long bits = genreWord(ordinal, word); bits != 0; bits &= bits - 1) {
+                    postingStarts[(word << 6) + Long.numberOfTrailingZeros(bits) + 1]++;
+                }
+            }
+        }
+        for (int genreId = 0; genreId < genreCount; genreId++) {
+            postingStarts[genreId + 1] += postingStarts[genreId];
+        }
+        this.genrePostings = arena.allocate(postingStarts[genreCount] * Integer.BYTES, Integer.BYTES);
+        long[] nextPosting = postingStarts.clone();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            for (int word = 0; word < genreWords; word++) {
+                for (long bits = genreWord(ordinal, word); bits != 0; bits &= bits - 1) {
+                    int genreId = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    genrePostings.setAtIndex(ValueLayout.JAVA_INT, nextPosting[genreId]++, ordinal);
+                }
+            }
+        }
+    }
+
+    public static OffHeapMovieCatalogue open(String snapshotPath) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(Path.of(snapshotPath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < CatalogueSnapshot.HEADER_SIZE) {
+                throw new IOException("Invalid catalogue snapshot " + snapshotPath);
+            }
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize, arena);
+            if (file.get(INT, 0) != CatalogueSnapshot.MAGIC || file.get(INT, 4) != CatalogueSnapshot.VERSION) {
+                throw new IOException("Invalid catalogue snapshot " + snapshotPath);
+            }
+            return new OffHeapMovieCatalogue(arena, file);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            arena.close();
+            throw new IOException("Corrupt catalogue snapshot " + snapshotPath, e);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public GenreDictionary genreDictionary() {
+        return genreDictionary;
+    }
+
+    public String title(int ordinal) {
+        return decode(stringStart(2 * ordinal), stringStart(2 * ordinal + 1));
+    }
+
+    public String id(int ordinal) {
+        return decode(stringStart(2 * ordinal + 1), stringStart(2 * ordinal + 2));
+    }
+
+    public int ordinalOf(String movieId) {
+        if (movieId == null) {
+            return -1;
+        }
+        byte[] bytes = movieId.getBytes(StandardCharsets.UTF_8);
+        int slot = hash(bytes) & idSlotMask;
+        int occupant;
+        while ((occupant = idSlots.getAtIndex(ValueLayout.JAVA_INT, slot)) != EMPTY_SLOT) {
+            if (sameBytes(occupant, bytes)) {
+                return occupant;
+            }
+            slot = (slot + 1) & idSlotMask;
+        }
+        return -1;
+    }
+
+    public boolean contains(String movieId) {
+        return ordinalOf(movieId) >= 0;
+    }
+
+    public boolean hasGenre(int ordinal, int genreId) {
+        if (genreId < 0) {
+            return false;
+        }
+        return (genreWord(ordinal, genreId >>> 6) & (1L << genreId)) != 0;
+    }
+
+    public long genreWord(int ordinal, int word) {
+        return file.get(LONG, bitsPosition + ((long) ordinal * genreWords + word) * Long.BYTES);
+    }
+
+    public int genreCount(int ordinal) {
+        return file.get(INT, genreListPositions.getAtIndex(ValueLayout.JAVA_LONG, ordinal));
+    }
+
+    public int genreId(int ordinal, int position) {
+        long genreList = genreListPositions.getAtIndex(ValueLayout.JAVA_LONG, ordinal);
+        return file.get(INT, genreList + Integer.BYTES + (long) Integer.BYTES * position);
+    }
+
+    public int postingCount(int genreId) {
+        return (int) (postingStarts[genreId + 1] - postingStarts[genreId]);
+    }
+
+    public int posting(int genreId, int index) {
+        return genrePostings.getAtIndex(ValueLayout.JAVA_INT, postingStarts[genreId] + index);
+    }
+
+    public MovieView view() {
+        return new MovieView();
+    }
+
+    public MovieView view(int ordinal) {
+        return new MovieView().moveTo(ordinal);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long stringStart(int index) {
+        return blobPosition + file.get(LONG, offsetsPosition + (long) index * Long.BYTES);
+    }
+
+    private String decode(long start, long end) {
+        return new String(file.asSlice(start, end - start).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+    }
+
+    private int hash(long start, long end) {
+        int hash = 0x811C9DC5;
+        for (long position = start; position < end; position++) {
+            hash = (hash ^ (file.get(ValueLayout.JAVA_BYTE, position) & 0xFF)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(byte[] bytes) {
+        int hash = 0x811C9DC5;
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean sameBytes(int ordinal, long start, long end) {
+        long idStart = stringStart(2 * ordinal + 1);
+        long idEnd = stringStart(2 * ordinal + 2);
+        if (idEnd - idStart != end - start) {
+            return false;
+        }
+        for (long offset = 0; offset < end - start; offset++) {
+            if (file.get(ValueLayout.JAVA_BYTE, idStart + offset) != file.get(ValueLayout.JAVA_BYTE, start + offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean sameBytes(int ordinal, byte[] bytes) {
+        long idStart = stringStart(2 * ordinal + 1);
+        long idEnd = stringStart(2 * ordinal + 2);
+        if (idEnd - idStart != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (file.get(ValueLayout.JAVA_BYTE, idStart + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public final class MovieView {
+        private int ordinal = -1;
+
+        private MovieView() {
+        }
+
+        public MovieView moveTo(int ordinal) {
+            this.ordinal = ordinal;
+            return this;
+        }
+
+        public int ordinal() {
+            return ordinal;
+        }
+
+        public String title() {
+            return OffHeapMovieCatalogue.this.title(ordinal);
+        }
+
+        public String id() {
+            return OffHeapMovieCatalogue.this.id(ordinal);
+        }
+
+        public List<String> genres() {
+            int genreCount = genreCount(ordinal);
+            List<String> genres = new ArrayList<>(genreCount);
+            for (int position = 0; position < genreCount; position++) {
+                genres.add(genreDictionary.genre(genreId(ordinal, position)));
+            }
+            return genres;
+        }
+
+        public Movie toMovie() {
+            return new Movie(title(), id(), genres());
+        }
+    }
+}
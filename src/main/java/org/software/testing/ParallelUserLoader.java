@@ -0,0 +1,146 @@
+package org.software.testing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Splits the file into byte ranges, counts line starts per range, then moves every range start to
+// the next line with an even global index so each chunk holds whole name/favourites records.
+public class ParallelUserLoader {
+    private static final int CHUNK_SIZE = 1 << 22;
+
+    private final MemorySegment segment;
+    private final long size;
+    private final int chunkSize;
+
+    private ParallelUserLoader(MemorySegment segment, int chunkSize) {
+        this.segment = segment;
+        this.size = segment.byteSize();
+        this.chunkSize = chunkSize;
+    }
+
+    public static List<User> load(String path) throws IOException {
+        return load(path, ForkJoinPool.commonPool());
+    }
+
+    public static List<User> load(String path, ForkJoinPool pool) throws IOException {
+        return load(path, pool, CHUNK_SIZE);
+    }
+
+    static List<User> load(String path, ForkJoinPool pool, int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ);
+             Arena arena = Arena.ofShared()) {
+            if (channel.size() == 0) {
+                return new ArrayList<>();
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new ParallelUserLoader(segment, chunkSize).parse(pool);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private List<User> parse(ForkJoinPool pool) {
+        int rangeCount = Math.toIntExact((size + chunkSize - 1) / chunkSize);
+
+        long[] lineStartsBefore = new long[rangeCount];
+        pool.submit(() -> IntStream.range(0, rangeCount)
+                .parallel()
+                .forEach(range -> lineStartsBefore[range] = countLineStarts(rangeStart(range), rangeStart(range + 1))))
+                .join();
+        long lineStarts = 0;
+        for (int range = 0; range < rangeCount; range++) {
+            long rangeLineStarts = lineStartsBefore[range];
+            lineStartsBefore[range] = lineStarts;
+            lineStarts += rangeLineStarts;
+        }
+
+        long[] chunkStarts = new long[rangeCount + 1];
+        chunkStarts[rangeCount] = size;
+        pool.submit(() -> IntStream.range(0, rangeCount)
+                .parallel()
+                .forEach(range -> chunkStarts[range] = firstRecordStart(rangeStart(range), lineStartsBefore[range])))
+                .join();
+
+        List<List<User>> chunks = pool.submit(() -> IntStream.range(0, rangeCount)
+                .parallel()
+                .mapToObj(range -> parseChunk(chunkStarts[range], chunkStarts[range + 1]))
+                .toList())
+                .join();
+
+        List<User> users = new ArrayList<>();
+        for (List<User> chunk : chunks) {
+            users.addAll(chunk);
+        }
+        return users;
+    }
+
+    private long rangeStart(int range) {
+        return Math.min((long) range * chunkSize, size);
+    }
+
+    private long countLineStarts(long start, long end) {
+        long count = 0;
+        for (long position = start; position < end; position++) {
+            if (isLineStart(position)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long firstRecordStart(long start, long lineIndex) {
+        for (long position = start; position < size; position++) {
+            if (isLineStart(position)) {
+                if ((lineIndex & 1) == 0) {
+                    return position;
+                }
+                lineIndex++;
+            }
+        }
+        return size;
+    }
+
+    private boolean isLineStart(long position) {
+        if (position == 0) {
+            return true;
+        }
+        byte previous = segment.get(ValueLayout.JAVA_BYTE, position - 1);
+        return previous == '\n' || (previous == '\r' && segment.get(ValueLayout.JAVA_BYTE, position) != '\n');
+    }
+
+    private List<User> parseChunk(long start, long end) {
+        List<User> users = new ArrayList<>();
+        if (start >= end) {
+            return users;
+        }
+        byte[] bytes = segment.asSlice(start, end - start).toArray(ValueLayout.JAVA_BYTE);
+        try (BufferedReader reader = new BufferedReader(new StringReader(
+                StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString()))) {
+            String userLine;
+            while ((userLine = reader.readLine()) != null) {
+                String favouritesLine = reader.readLine();
+                if (favouritesLine == null) {
+                    throw new IndexOutOfBoundsException("Missing favourite movies line for user " + userLine);
+                }
+                users.add(FileReader.parseUser(userLine, favouritesLine));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,42 @@
+package org.software.testing;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public record RecommendationDelta(List<Movie> addedMovies, List<Movie> removedMovies, List<User> changedUsers) {
+
+    public RecommendationDelta {
+        addedMovies = List.copyOf(addedMovies);
+        removedMovies = List.copyOf(removedMovies);
+        changedUsers = List.copyOf(changedUsers);
+    }
+
+    public static RecommendationDelta between(MovieCatalogue before, MovieCatalogue after) {
+        List<Movie> addedMovies = new ArrayList<>();
+        for (Movie movie : after.movies()) {
+            if (!movie.equals(before.findById(movie.id()))) {
+                addedMovies.add(movie);
+            }
+        }
+        List<Movie> removedMovies = new ArrayList<>();
+        for (Movie movie : before.movies()) {
+            if (!movie.equals(after.findById(movie.id()))) {
+                removedMovies.add(movie);
+            }
+        }
+        return new RecommendationDelta(addedMovies, removedMovies, List.of());
+    }
+
+    public Set<String> changedMovieIds() {
+        Set<String> movieIds = new HashSet<>();
+        for (Movie movie : addedMovies) {
+            movieIds.add(movie.id());
+        }
+        for (Movie movie : removedMovies) {
+            movieIds.add(movie.id());
+        }
+        return movieIds;
+    }
+}
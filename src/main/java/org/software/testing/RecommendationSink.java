@@ -0,0 +1,9 @@
+package org.software.testing;
+
+import java.io.IOException;
+import java.util.List;
+
+@FunctionalInterface
+public interface RecommendationSink {
+    void accept(User user, List<Movie> recommendedMovies) throws IOException;
+}
@@ -1,7 +1,40 @@
 package org.software.testing;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface RecommendationStrategy {
     List<Movie> recommend(User user, List<Movie> movies);
+
+    default List<Movie> recommend(User user, MovieCatalogue catalogue) {
+        return recommend(user, catalogue.movies());
+    }
+
+    default List<Movie> recommend(User user, MovieCatalogue catalogue, int limit) {
+        List<Movie> recommendedMovies = recommend(user, catalogue);
+        if (recommendedMovies.size() <= limit) {
+            return recommendedMovies;
+        }
+        return new ArrayList<>(recommendedMovies.subList(0, Math.max(limit, 0)));
+    }
+
+    default List<Movie> recommend(UserStore users, int index) {
+        return recommend(users.user(index), users.catalogue());
+    }
+
+    default List<List<Movie>> recommendBatch(List<User> users, MovieCatalogue catalogue) {
+        List<List<Movie>> recommendations = new ArrayList<>(users.size());
+        for (User user : users) {
+            recommendations.add(recommend(user, catalogue));
+        }
+        return recommendations;
+    }
+
+    default List<List<Movie>> recommendBatch(List<User> users, MovieCatalogue catalogue, int limit) {
+        List<List<Movie>> recommendations = new ArrayList<>(users.size());
+        for (User user : users) {
+            recommendations.add(recommend(user, catalogue, limit));
+        }
+        return recommendations;
+    }
 }
@@ -0,0 +1,24 @@
+package org.software.testing;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
+
+// Scratch shared across threads. A ThreadLocal would hand every short-lived virtual thread its own
+// fresh instance; the pool only ever holds as many as were in use at once.
+final class ScratchPool<T> {
+    private final Supplier<T> factory;
+    private final ConcurrentLinkedDeque<T> idle = new ConcurrentLinkedDeque<>();
+
+    ScratchPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    T acquire() {
+        T scratch = idle.pollFirst();
+        return scratch != null ? scratch : factory.get();
+    }
+
+    void release(T scratch) {
+        idle.offerFirst(scratch);
+    }
+}
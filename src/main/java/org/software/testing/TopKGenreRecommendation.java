@@ -0,0 +1,124 @@
+package org.software.testing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class TopKGenreRecommendation extends IndexedGenreRecommendation {
+    private final int limit;
+    private final ScratchPool<Scores> scratch = new ScratchPool<>(Scores::new);
+
+    public TopKGenreRecommendation(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public List<Movie> recommend(User user, List<Movie> movies) {
+        return recommend(user, indexFor(movies), limit);
+    }
+
+    @Override
+    public List<Movie> recommend(User user, MovieCatalogue catalogue) {
+        return recommend(user, indexFor(catalogue), limit);
+    }
+
+    @Override
+    public List<Movie> recommend(User user, MovieCatalogue catalogue, int limit) {
+        return recommend(user, indexFor(catalogue), limit);
+    }
+
+    @Override
+    public List<List<Movie>> recommendBatch(List<User> users, MovieCatalogue catalogue, int limit) {
+        GenreIndex index = indexFor(catalogue);
+        List<List<Movie>> recommendations = new ArrayList<>(users.size());
+        for (User user : users) {
+            recommendations.add(recommend(user, index, limit));
+        }
+        return recommendations;
+    }
+
+    @Override
+    public List<Movie> recommend(User user, GenreIndex index) {
+        return recommend(user, index, limit);
+    }
+
+    // Scores every candidate by how many genres it shares with each favourite, then keeps the best `limit`.
+    public List<Movie> recommend(User user, GenreIndex index, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        MovieCatalogue catalogue = index.catalogue();
+        Scores scores = scratch.acquire();
+        try {
+            scores.reset(catalogue.size());
+
+            List<String> favouriteMovieIds = user.favouriteMovieIds();
+            for (String favouriteMovieId : favouriteMovieIds) {
+                Movie favouriteMovie = catalogue.findById(favouriteMovieId);
+                if (favouriteMovie == null) {
+                    continue;
+                }
+                for (String genre : favouriteMovie.genres()) {
+                    for (int ordinal : index.ordinalsByGenre(genre)) {
+                        if (!favouriteMovieIds.contains(catalogue.get(ordinal).id())) {
+                            scores.increment(ordinal);
+                        }
+                    }
+                }
+            }
+
+            PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, Math.max(scores.touchedCount, 1)),
+                    (first, second) -> scores.values[first] != scores.values[second]
+                            ? Integer.compare(scores.values[first], scores.values[second])
+                            : Integer.compare(second, first));
+            for (int i = 0; i < scores.touchedCount; i++) {
+                int ordinal = scores.touched[i];
+                if (best.size() < limit) {
+                    best.add(ordinal);
+                } else if (best.comparator().compare(ordinal, best.peek()) > 0) {
+                    best.poll();
+                    best.add(ordinal);
+                }
+            }
+
+            Movie[] ranked = new Movie[best.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = catalogue.get(best.poll());
+            }
+            return new ArrayList<>(Arrays.asList(ranked));
+        } finally {
+            scratch.release(scores);
+        }
+    }
+
+    private static final class Scores {
+        private int[] values = new int[0];
+        private int[] touched = new int[16];
+        private int touchedCount;
+
+        private void reset(int size) {
+            clear();
+            if (values.length < size) {
+                values = new int[size];
+            }
+        }
+
+        private void increment(int ordinal) {
+            if (values[ordinal]++ == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touched.length * 2);
+                }
+                touched[touchedCount++] = ordinal;
+            }
+        }
+
+        private void clear() {
+            for (int i = 0; i < touchedCount; i++) {
+                values[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package org.software.testing;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 
 public record User(String name, String id, List<String> favouriteMovieIds) {
 
+    public User {
+        favouriteMovieIds = CanonicalList.of(favouriteMovieIds);
+    }
+
     @Override
     public boolean equals(Object o) {
+        if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         User user = (User) o;
         return Objects.equals(name, user.name)
                 && Objects.equals(id, user.id)
-                && Objects.equals(new HashSet<>(favouriteMovieIds), new HashSet<>(user.favouriteMovieIds));
+                && CanonicalList.sameElements((CanonicalList) favouriteMovieIds, (CanonicalList) user.favouriteMovieIds);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(name);
+        result = 31 * result + Objects.hashCode(id);
+        return 31 * result + CanonicalList.setHashCode((CanonicalList) favouriteMovieIds);
     }
 
 
@@ -0,0 +1,67 @@
+package org.software.testing;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class UserFileReader implements Iterator<User>, Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+    private User nextUser;
+    private boolean finished;
+
+    public UserFileReader(String path) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(Files.newInputStream(Path.of(path)), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextUser == null && !finished) {
+            nextUser = readNextUser();
+        }
+        return nextUser != null;
+    }
+
+    @Override
+    public User next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        User user = nextUser;
+        nextUser = null;
+        return user;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        nextUser = null;
+        reader.close();
+    }
+
+    private User readNextUser() {
+        try {
+            String userLine = reader.readLine();
+            if (userLine == null) {
+                finished = true;
+                return null;
+            }
+            String favouritesLine = reader.readLine();
+            if (favouritesLine == null) {
+                finished = true;
+                throw new IndexOutOfBoundsException("Missing favourite movies line for user " + userLine);
+            }
+            return FileReader.parseUser(userLine, favouritesLine);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.software.testing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Column per field: UTF-8 names in a paged byte arena, IDs as 8 digits plus a suffix char (anything
+// else kept verbatim on the side), and favourites as catalogue ordinals in paged int storage. Both
+// paged columns use long offsets, so only the user count is bounded by int indexes.
+public class UserStore {
+    private static final int ID_DIGITS = 8;
+    private static final int PAGE_SHIFT = 20;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final MovieCatalogue catalogue;
+    private final int size;
+    private final ByteColumn nameBytes;
+    private final long[] nameOffsets;
+    private final int[] idNumbers;
+    private final char[] idSuffixes;
+    private final Map<Integer, String> irregularIds;
+    private final IntColumn favouriteOrdinals;
+    private final long[] favouriteOffsets;
+
+    private UserStore(Builder builder) {
+        this.catalogue = builder.catalogue;
+        this.size = builder.size;
+        this.nameBytes = builder.nameBytes;
+        this.nameOffsets = Arrays.copyOf(builder.nameOffsets, size + 1);
+        this.idNumbers = Arrays.copyOf(builder.idNumbers, size);
+        this.idSuffixes = Arrays.copyOf(builder.idSuffixes, size);
+        this.irregularIds = builder.irregularIds;
+        this.favouriteOrdinals = builder.favouriteOrdinals;
+        this.favouriteOffsets = Arrays.copyOf(builder.favouriteOffsets, size + 1);
+    }
+
+    public static UserStore of(List<User> users, MovieCatalogue catalogue) {
+        return of(users.iterator(), catalogue);
+    }
+
+    public static UserStore of(Iterator<User> users, MovieCatalogue catalogue) {
+        Builder builder = new Builder(catalogue);
+        while (users.hasNext()) {
+            builder.add(users.next());
+        }
+        return new UserStore(builder);
+    }
+
+    public MovieCatalogue catalogue() {
+        return catalogue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String name(int index) {
+        return nameBytes.decode(nameOffsets[index], nameOffsets[index + 1]);
+    }
+
+    public String id(int index) {
+        if (idSuffixes[index] == 0) {
+            return irregularIds.get(index);
+        }
+        char[] id = new char[ID_DIGITS + 1];
+        int number = idNumbers[index];
+        for (int i = ID_DIGITS - 1; i >= 0; i--) {
+            id[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        id[ID_DIGITS] = idSuffixes[index];
+        return new String(id);
+    }
+
+    public int favouriteCount(int index) {
+        return (int) (favouriteOffsets[index + 1] - favouriteOffsets[index]);
+    }
+
+    public int favouriteOrdinal(int index, int position) {
+        return favouriteOrdinals.get(favouriteOffsets[index] + position);
+    }
+
+    public User user(int index) {
+        List<String> favouriteMovieIds = new ArrayList<>(favouriteCount(index));
+        for (int position = 0; position < favouriteCount(index); position++) {
+            favouriteMovieIds.add(catalogue.get(favouriteOrdinal(index, position)).id());
+        }
+        return new User(name(index), id(index), favouriteMovieIds);
+    }
+
+    private static final class Builder {
+        private final MovieCatalogue catalogue;
+        private final Map<Integer, String> irregularIds = new HashMap<>();
+        private final ByteColumn nameBytes = new ByteColumn();
+        private final IntColumn favouriteOrdinals = new IntColumn();
+        private int size;
+        private long[] nameOffsets = new long[65];
+        private int[] idNumbers = new int[64];
+        private char[] idSuffixes = new char[64];
+        private long[] favouriteOffsets = new long[65];
+
+        private Builder(MovieCatalogue catalogue) {
+            this.catalogue = catalogue;
+        }
+
+        private void add(User user) {
+            if (size == idNumbers.length) {
+                int capacity = Math.multiplyExact(size, 2);
+                nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+                idNumbers = Arrays.copyOf(idNumbers, capacity);
+                idSuffixes = Arrays.copyOf(idSuffixes, capacity);
+                favouriteOffsets = Arrays.copyOf(favouriteOffsets, capacity + 1);
+            }
+
+            nameBytes.append(user.name().getBytes(StandardCharsets.UTF_8));
+            nameOffsets[size + 1] = nameBytes.size;
+
+            packId(user.id());
+
+            for (String favouriteMovieId : user.favouriteMovieIds()) {
+                int ordinal = catalogue.ordinalOf(favouriteMovieId);
+                if (ordinal < 0) {
+                    throw new IllegalArgumentException("Favourite movie " + favouriteMovieId
+                            + " of user " + user.id() + " is not in the catalogue");
+                }
+                favouriteOrdinals.append(ordinal);
+            }
+            favouriteOffsets[size + 1] = favouriteOrdinals.size;
+            size++;
+        }
+
+        private void packId(String id) {
+            int number = 0;
+            boolean packable = id.length() == ID_DIGITS + 1 && id.charAt(ID_DIGITS) != 0;
+            for (int i = 0; packable && i < ID_DIGITS; i++) {
+                char c = id.charAt(i);
+                packable = c >= '0' && c <= '9';
+                number = number * 10 + (c - '0');
+            }
+            if (packable) {
+                idNumbers[size] = number;
+                idSuffixes[size] = id.charAt(ID_DIGITS);
+            } else {
+                idSuffixes[size] = 0;
+                irregularIds.put(size, id);
+            }
+        }
+    }
+
+    // Pages start small and double up to PAGE_SIZE, after which a new page is started.
+    private static final class ByteColumn {
+        private byte[][] pages = {new byte[1024]};
+        private long size;
+
+        private void append(byte[] bytes) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                byte[] page = writablePage();
+                int within = (int) (size & PAGE_MASK);
+                int length = Math.min(bytes.length - offset, page.length - within);
+                System.arraycopy(bytes, offset, page, within, length);
+                offset += length;
+                size += length;
+            }
+        }
+
+        private String decode(long start, long end) {
+            int length = (int) (end - start);
+            if (length == 0) {
+                return "";
+            }
+            byte[] page = pages[(int) (start >>> PAGE_SHIFT)];
+            int within = (int) (start & PAGE_MASK);
+            if (within + length <= page.length) {
+                return new String(page, within, length, StandardCharsets.UTF_8);
+            }
+            byte[] bytes = new byte[length];
+            for (int copied = 0; copied < length; ) {
+                page = pages[(int) ((start + copied) >>> PAGE_SHIFT)];
+                within = (int) ((start + copied) & PAGE_MASK);
+                int chunk = Math.min(length - copied, page.length - within);
+                System.arraycopy(page, within, bytes, copied, chunk);
+                copied += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private byte[] writablePage() {
+            int pageIndex = (int) (size >>> PAGE_SHIFT);
+            if (pageIndex == pages.length) {
+                pages = Arrays.copyOf(pages, pageIndex + 1);
+                pages[pageIndex] = new byte[1024];
+            }
+            if ((size & PAGE_MASK) == pages[pageIndex].length) {
+                pages[pageIndex] = Arrays.copyOf(pages[pageIndex], Math.min(PAGE_SIZE, 2 * pages[pageIndex].length));
+            }
+            return pages[pageIndex];
+        }
+    }
+
+    private static final class IntColumn {
+        private int[][] pages = {new int[256]};
+        private long size;
+
+        private void append(int value) {
+            int pageIndex = (int) (size >>> PAGE_SHIFT);
+            if (pageIndex == pages.length) {
+                pages = Arrays.copyOf(pages, pageIndex + 1);
+                pages[pageIndex] = new int[256];
+            }
+            int within = (int) (size & PAGE_MASK);
+            if (within == pages[pageIndex].length) {
+                pages[pageIndex] = Arrays.copyOf(pages[pageIndex], Math.min(PAGE_SIZE, 2 * pages[pageIndex].length));
+            }
+            pages[pageIndex][within] = value;
+            size++;
+        }
+
+        private int get(long position) {
+            return pages[(int) (position >>> PAGE_SHIFT)][(int) (position & PAGE_MASK)];
+        }
+    }
+}
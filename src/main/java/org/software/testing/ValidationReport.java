@@ -0,0 +1,32 @@
+package org.software.testing;
+
+import java.util.List;
+
+public class ValidationReport {
+    private final List<Violation> violations;
+
+    public ValidationReport(List<Violation> violations) {
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<Violation> violations() {
+        return violations;
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public void throwIfInvalid() {
+        if (!isValid()) {
+            Violation first = violations.getFirst();
+            throw new AppException(first.message(), first.errorCode());
+        }
+    }
+
+    public record Violation(ErrorCode errorCode, String message) {
+        static Violation of(AppException e) {
+            return new Violation(e.getErrorCode(), e.getMessage());
+        }
+    }
+}
@@ -1,17 +1,38 @@
 package org.software.testing;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 public class ValidationService implements MovieValidator, UserValidator {
-    private static final Pattern USER_ID_PATTERN = Pattern.compile("^\\d{8}[A-Z]?$");
     private final List<Movie> movies;
     private final List<User> users;
+    private final Predicate<String> movieLookup;
 
     public ValidationService(List<Movie> movies, List<User> users) {
+        this(movies, users, null);
+    }
+
+    public ValidationService(MovieCatalogue catalogue, List<User> users) {
+        this(catalogue.movies(), users, catalogue::contains);
+    }
+
+    // Snapshots only hold validated catalogues, so there are no movies left to validate here.
+    public ValidationService(OffHeapMovieCatalogue catalogue, List<User> users) {
+        this(List.of(), users, catalogue::contains);
+    }
+
+    private ValidationService(List<Movie> movies, List<User> users, Predicate<String> movieLookup) {
         this.movies = movies;
         this.users = users;
+        this.movieLookup = movieLookup;
     }
 
     public void validate() {
@@ -20,12 +41,87 @@ public class ValidationService implements MovieValidator, UserValidator {
             validateUser(user);
         }
 
+        validateMovies();
+    }
+
+    public void validateMovies() {
         validateMovieIdUniqueness();
         for (Movie movie : movies) {
             validateMovie(movie);
         }
     }
 
+    public void validateUser(User user, Set<String> seenUserIds) {
+        if (!seenUserIds.add(user.id())) {
+            throw new AppException("User ID "+ user.id() + " is not unique"
+                    , ErrorCode.USER_ID_ERROR);
+        }
+        validateUser(user);
+    }
+
+    public ValidationReport validateAll() {
+        return validateAll(ForkJoinPool.commonPool());
+    }
+
+    public ValidationReport validateAll(ForkJoinPool pool) {
+        List<ValidationReport.Violation> violations = new ArrayList<>();
+
+        for (int index : duplicateIndexes(users, User::id)) {
+            violations.add(new ValidationReport.Violation(ErrorCode.USER_ID_ERROR,
+                    "User ID "+ users.get(index).id() + " is not unique"));
+        }
+        List<User> userSnapshot = List.copyOf(users);
+        collectInParallel(pool, userSnapshot.size(), index -> userViolations(userSnapshot.get(index)), violations);
+
+        // IDs shorter than three characters are reported by the ID letters check instead
+        for (int index : duplicateIndexes(movies, movie -> movie.id().length() < 3 ? null : movieIdNumbers(movie))) {
+            violations.add(new ValidationReport.Violation(ErrorCode.MOVIE_ID_UNIQUE_ERROR,
+                    "Movie ID numbers " + movies.get(index).id() + " aren't unique"));
+        }
+        List<Movie> movieSnapshot = List.copyOf(movies);
+        collectInParallel(pool, movieSnapshot.size(), index -> movieViolations(movieSnapshot.get(index)), violations);
+
+        return new ValidationReport(violations);
+    }
+
+    private static void collectInParallel(ForkJoinPool pool, int size, IntFunction<List<ValidationReport.Violation>> check,
+                                          List<ValidationReport.Violation> violations) {
+        List<List<ValidationReport.Violation>> results = pool.submit(() -> IntStream.range(0, size)
+                .parallel()
+                .mapToObj(check)
+                .toList())
+                .join();
+        for (List<ValidationReport.Violation> result : results) {
+            violations.addAll(result);
+        }
+    }
+
+    private List<ValidationReport.Violation> userViolations(User user) {
+        List<ValidationReport.Violation> violations = new ArrayList<>(0);
+        collect(violations, () -> validateUsername(user.name()));
+        collect(violations, () -> validateUserId(user.id()));
+        for (String movieId : user.favouriteMovieIds()) {
+            collect(violations, () -> validateMovieFound(movieId));
+        }
+        return violations;
+    }
+
+    private List<ValidationReport.Violation> movieViolations(Movie movie) {
+        List<ValidationReport.Violation> violations = new ArrayList<>(0);
+        collect(violations, () -> validateMovieId(movie.id(), movie.title()));
+        collect(violations, () -> validateMovieTitle(movie.title()));
+        collect(violations, () -> validateMovieGenre(movie.genres()));
+        return violations;
+    }
+
+    private static void collect(List<ValidationReport.Violation> violations, Runnable check) {
+        try {
+            check.run();
+        } catch (AppException e) {
+            violations.add(ValidationReport.Violation.of(e));
+        }
+    }
+
     @Override
     public void validateUser(User user) {
         validateUsername(user.name());
@@ -43,6 +139,13 @@ public class ValidationService implements MovieValidator, UserValidator {
     }
 
     public void validateMovieFound(String movieId) {
+        if (movieLookup != null) {
+            if (!movieLookup.test(movieId)) {
+                throw new AppException("Movie " + movieId + " not found", ErrorCode.MOVIE_NOT_FOUND_ERROR);
+            }
+            return;
+        }
+
         boolean found = false;
         for (Movie movie : movies) {
             if (movie.id().equals(movieId)) {
@@ -56,7 +159,7 @@ public class ValidationService implements MovieValidator, UserValidator {
     }
 
     public void validateUsername(String name) {
-        if (name == null || name.isEmpty() || name.startsWith(" ") || !name.matches("[A-Za-z ]+")) {
+        if (name == null || name.isEmpty() || name.charAt(0) == ' ' || !isLettersAndSpaces(name)) {
             throw new AppException("User Name " + name + " is wrong", ErrorCode.USER_NAME_ERROR);
         }
         validateNameOrTitle(name, true);
@@ -67,55 +170,112 @@ public class ValidationService implements MovieValidator, UserValidator {
     }
 
     private void checkIdRules(String id) {
-        Matcher matcher = USER_ID_PATTERN.matcher(id);
-        boolean isInteger;
-        try {
-            Integer.parseInt(id);
-            isInteger = true;
-        } catch (NumberFormatException e) {
-            isInteger = false;
+        // Check if the ID is 9 characters long and is either 8 digits plus an uppercase letter, or an integer
+        if (id.length() != 9 || (!isDigitsWithLetterSuffix(id) && !isInteger(id))) {
+                throw new AppException("User ID "+ id +" is wrong", ErrorCode.USER_ID_ERROR);
         }
+    }
 
-        // Check if the ID is 9 characters long, matches the pattern, and is an integer
-        if (id.length() != 9 || (!matcher.matches() && !isInteger)) {
-                throw new AppException("User ID "+ id +" is wrong", ErrorCode.USER_ID_ERROR);
+    private static boolean isDigitsWithLetterSuffix(String id) {
+        int last = id.length() - 1;
+        for (int i = 0; i < last; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
         }
+        char suffix = id.charAt(last);
+        return suffix >= 'A' && suffix <= 'Z';
     }
 
-    private void validateUserIdUniqueness() {
-        for (int i = 0; i < users.size(); i++) {
-            for (int j = i + 1; j < users.size(); j++) {
-                if (users.get(i).id().equals(users.get(j).id())) {
-                    throw new AppException("User ID "+ users.get(i).id() + " is not unique"
-                            , ErrorCode.USER_ID_ERROR);
-                }
+    // Same inputs Integer.parseInt accepts for a 9 character string, without throwing
+    private static boolean isInteger(String id) {
+        int start = id.charAt(0) == '-' || id.charAt(0) == '+' ? 1 : 0;
+        if (start == id.length()) {
+            return false;
+        }
+        for (int i = start; i < id.length(); i++) {
+            if (Character.digit(id.charAt(i), 10) < 0) {
+                return false;
             }
         }
+        return true;
+    }
+
+    private void validateUserIdUniqueness() {
+        List<Integer> duplicateIndexes = duplicateIndexes(users, User::id);
+        if (!duplicateIndexes.isEmpty()) {
+            throw new AppException("User ID "+ users.get(duplicateIndexes.getFirst()).id() + " is not unique"
+                    , ErrorCode.USER_ID_ERROR);
+        }
     }
 
     private void validateMovieId(String movieId, String title) {
-        String[] words = title.split(" ");
-        StringBuilder idLetters = new StringBuilder();
-        for (String word : words) {
-            idLetters.append(Character.toUpperCase(word.trim().charAt(0)));
+        if (title == null) {
+            return;
+        }
+        int lastWordEnd = lastNonSpaceIndex(title);
+        int letterCount = 0;
+        for (int i = 0; i <= lastWordEnd; i++) {
+            if (i > 0 && title.charAt(i - 1) != ' ') {
+                continue;
+            }
+            int letterIndex = i;
+            while (letterIndex < title.length() && title.charAt(letterIndex) != ' ' && title.charAt(letterIndex) <= ' ') {
+                letterIndex++;
+            }
+            if (letterIndex == title.length() || title.charAt(letterIndex) == ' ') {
+                // Empty words have no initial, the title check reports them
+                return;
+            }
+            char letter = Character.toUpperCase(title.charAt(letterIndex));
+            if (letterCount >= movieId.length() || movieId.charAt(letterCount) != letter) {
+                throw new AppException("Movie ID letters "+ movieId +" are wrong", ErrorCode.MOVIE_ID_LETTERS_ERROR);
+            }
+            letterCount++;
         }
 
-        if (!movieId.startsWith(idLetters.toString()) || movieId.length() != (idLetters.length() + 3)) {
+        if (lastWordEnd < 0 && title.isEmpty()) {
+            return;
+        }
+        if (movieId.length() != (letterCount + 3)) {
             throw new AppException("Movie ID letters "+ movieId +" are wrong", ErrorCode.MOVIE_ID_LETTERS_ERROR);
         }
     }
 
     private void validateMovieIdUniqueness() {
-        for (int i = 0; i < movies.size(); i++) {
-            String lastThreeDigitsI = movies.get(i).id().substring(movies.get(i).id().length() - 3);
-            for (int j = i + 1; j < movies.size(); j++) {
-                String lastThreeDigitsJ = movies.get(j).id().substring(movies.get(j).id().length() - 3);
-                if (lastThreeDigitsI.equals(lastThreeDigitsJ)) {
-                    throw new AppException("Movie ID numbers " + movies.get(i).id() + " aren't unique"
-                            , ErrorCode.MOVIE_ID_UNIQUE_ERROR);
-                }
+        List<Integer> duplicateIndexes = duplicateIndexes(movies, this::movieIdNumbers);
+        if (!duplicateIndexes.isEmpty()) {
+            throw new AppException("Movie ID numbers " + movies.get(duplicateIndexes.getFirst()).id() + " aren't unique"
+                    , ErrorCode.MOVIE_ID_UNIQUE_ERROR);
+        }
+    }
+
+    private String movieIdNumbers(Movie movie) {
+        return movie.id().substring(movie.id().length() - 3);
+    }
+
+    // Returns, in ascending order, the first index of every non-null key that appears more than once in the list.
+    private static <T> List<Integer> duplicateIndexes(List<T> items, Function<T, String> keyOf) {
+        Map<String, Integer> firstIndexByKey = new HashMap<>();
+        boolean[] duplicated = new boolean[items.size()];
+        boolean anyDuplicate = false;
+        for (int i = 0; i < items.size(); i++) {
+            String key = keyOf.apply(items.get(i));
+            Integer firstIndex = key == null ? null : firstIndexByKey.putIfAbsent(key, i);
+            if (firstIndex != null) {
+                duplicated[firstIndex] = true;
+                anyDuplicate = true;
             }
         }
+
+        List<Integer> duplicateIndexes = new ArrayList<>();
+        for (int i = 0; anyDuplicate && i < duplicated.length; i++) {
+            if (duplicated[i]) {
+                duplicateIndexes.add(i);
+            }
+        }
+        return duplicateIndexes;
     }
 
     public void validateMovieTitle(String title) {
@@ -131,9 +291,10 @@ public class ValidationService implements MovieValidator, UserValidator {
             throw new AppException("Name or title is empty", ErrorCode.USER_NAME_ERROR);
         }
 
-        String[] words = nameOrTitle.split(" ");
-        for (String word : words) {
-            if (!Character.isUpperCase(word.charAt(0))) {
+        int lastWordEnd = lastNonSpaceIndex(nameOrTitle);
+        for (int i = 0; i <= lastWordEnd; i++) {
+            boolean isWordStart = i == 0 || nameOrTitle.charAt(i - 1) == ' ';
+            if (isWordStart && !Character.isUpperCase(nameOrTitle.charAt(i))) {
                 if (isUser) {
                     throw new AppException("User Name " + nameOrTitle +" is wrong", ErrorCode.USER_NAME_ERROR);
                 } else {
@@ -143,6 +304,25 @@ public class ValidationService implements MovieValidator, UserValidator {
         }
     }
 
+    private static boolean isLettersAndSpaces(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ' ' && (c < 'A' || c > 'Z') && (c < 'a' || c > 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Words are separated by single spaces; trailing spaces do not start a word.
+    private static int lastNonSpaceIndex(String text) {
+        int index = text.length() - 1;
+        while (index >= 0 && text.charAt(index) == ' ') {
+            index--;
+        }
+        return index;
+    }
+
     private void validateMovieGenre(List<String> genres) {
         if (genres == null || genres.isEmpty()) {
             throw new AppException("Movie genre is empty", ErrorCode.MOVIE_GENRE_ERROR);
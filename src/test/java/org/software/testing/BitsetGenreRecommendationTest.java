@@ -0,0 +1,54 @@
+package org.software.testing;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BitsetGenreRecommendationTest {
+    private final BitsetGenreRecommendation strategy = new BitsetGenreRecommendation();
+
+    @Test
+    public void recommend_returnsCandidatesInCatalogueOrderWithoutFavourites() {
+        List<Movie> movies = Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("The Matrix", "M2", Arrays.asList("Action")),
+                new Movie("Blade Runner", "M3", Arrays.asList("Sci-Fi")),
+                new Movie("Mad Max", "M4", Arrays.asList("Action", "Drama"))
+        );
+        User user = new User("User", "00000001A", Arrays.asList("M4", "M1"));
+
+        List<Movie> recommendations = strategy.recommend(user, new MovieCatalogue(movies));
+
+        assertEquals(List.of(movies.get(1), movies.get(2)), recommendations);
+    }
+
+    @Test
+    public void recommend_unknownFavourite_returnsEmptyList() {
+        List<Movie> movies = Arrays.asList(new Movie("Inception", "M1", Arrays.asList("Sci-Fi")));
+
+        assertTrue(strategy.recommend(new User("User", "00000001A", Arrays.asList("X9")), movies).isEmpty());
+    }
+
+    @Test
+    public void recommend_matchesGenreBasedMovieSet() {
+        Random random = new Random(11);
+        List<Movie> movies = TestData.randomMovies(random, 500, 70);
+        movies.add(movies.get(3));
+        movies.add(new Movie("Remake", "M5", Arrays.asList("G1")));
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+        GenreBasedRecommendation reference = new GenreBasedRecommendation();
+
+        for (User user : TestData.randomUsers(random, 100, movies, "M5", "M3")) {
+            List<Movie> expected = reference.recommend(user, movies);
+            List<Movie> actual = strategy.recommend(user, catalogue);
+
+            assertEquals(expected.size(), actual.size());
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        }
+    }
+}
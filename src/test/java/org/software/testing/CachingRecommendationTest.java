@@ -0,0 +1,125 @@
+package org.software.testing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CachingRecommendationTest {
+    private final AtomicInteger computations = new AtomicInteger();
+    private MovieCatalogue catalogue;
+    private CachingRecommendation strategy;
+
+    @Before
+    public void setUp() {
+        catalogue = new MovieCatalogue(Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("The Matrix", "M2", Arrays.asList("Action", "Sci-Fi")),
+                new Movie("Blade Runner", "M3", Arrays.asList("Sci-Fi")),
+                new Movie("Mad Max", "M4", Arrays.asList("Action"))
+        ));
+        strategy = new CachingRecommendation(new GenreBasedRecommendation() {
+            @Override
+            public List<Movie> recommend(User user, MovieCatalogue catalogue) {
+                computations.incrementAndGet();
+                return super.recommend(user, catalogue);
+            }
+        }, 2);
+    }
+
+    @Test
+    public void recommend_sameFavourites_reusesResult() {
+        User first = new User("First User", "00000001A", Arrays.asList("M1"));
+        User second = new User("Second User", "00000002A", Arrays.asList("M1"));
+
+        List<Movie> firstRecommendations = strategy.recommend(first, catalogue);
+        List<Movie> secondRecommendations = strategy.recommend(second, catalogue);
+
+        assertSame(firstRecommendations, secondRecommendations);
+        assertEquals(new GenreBasedRecommendation().recommend(second, catalogue), secondRecommendations);
+        assertEquals(1, computations.get());
+        assertEquals(1, strategy.hitCount());
+        assertEquals(1, strategy.missCount());
+    }
+
+    @Test
+    public void recommend_differentFavouriteOrder_isCachedSeparately() {
+        strategy.recommend(new User("First User", "00000001A", Arrays.asList("M1", "M4")), catalogue);
+        strategy.recommend(new User("Second User", "00000002A", Arrays.asList("M4", "M1")), catalogue);
+
+        assertEquals(2, computations.get());
+        assertEquals(0, strategy.hitCount());
+    }
+
+    @Test
+    public void recommend_overCapacity_evictsLeastRecentlyUsed() {
+        User m1Fan = new User("First User", "00000001A", Arrays.asList("M1"));
+        User m2Fan = new User("Second User", "00000002A", Arrays.asList("M2"));
+        User m3Fan = new User("Third User", "00000003A", Arrays.asList("M3"));
+
+        strategy.recommend(m1Fan, catalogue);
+        strategy.recommend(m2Fan, catalogue);
+        strategy.recommend(m1Fan, catalogue);
+        strategy.recommend(m3Fan, catalogue);
+        strategy.recommend(m1Fan, catalogue);
+        strategy.recommend(m2Fan, catalogue);
+
+        assertEquals(2, strategy.size());
+        assertEquals(2, strategy.hitCount());
+        assertEquals(4, computations.get());
+    }
+
+    @Test
+    public void recommend_newCatalogue_invalidatesCache() {
+        User user = new User("First User", "00000001A", Arrays.asList("M1"));
+        strategy.recommend(user, catalogue);
+
+        MovieCatalogue updated = new MovieCatalogue(Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("Arrival", "M5", Arrays.asList("Sci-Fi"))
+        ));
+        List<Movie> recommendations = strategy.recommend(user, updated);
+
+        assertEquals(List.of(updated.get(1)), recommendations);
+        assertEquals(2, computations.get());
+        assertEquals(1, strategy.size());
+    }
+
+    @Test
+    public void recommend_withLimit_cachesPerLimit() {
+        User user = new User("First User", "00000001A", Arrays.asList("M1"));
+
+        assertEquals(1, strategy.recommend(user, catalogue, 1).size());
+        assertEquals(2, strategy.recommend(user, catalogue).size());
+        assertEquals(1, strategy.recommend(user, catalogue, 1).size());
+
+        assertEquals(1, strategy.hitCount());
+    }
+
+    @Test
+    public void recommend_overRetainedMovieBudget_neverHoldsMoreMovies() {
+        CachingRecommendation bounded = new CachingRecommendation(new GenreBasedRecommendation(), 100, 2);
+        User m1Fan = new User("First User", "00000001A", Arrays.asList("M1"));
+        User m4Fan = new User("Second User", "00000002A", Arrays.asList("M4"));
+        User unlimitedFan = new User("Third User", "00000003A", Arrays.asList("M2"));
+
+        assertEquals(2, bounded.recommend(m1Fan, catalogue).size());
+        assertEquals(1, bounded.recommend(m4Fan, catalogue).size());
+        assertEquals(1, bounded.size());
+        assertEquals(1, bounded.retainedMovieCount());
+
+        assertEquals(3, bounded.recommend(unlimitedFan, catalogue).size());
+        bounded.recommend(unlimitedFan, catalogue);
+        assertEquals(0, bounded.hitCount());
+        assertEquals(1, bounded.retainedMovieCount());
+    }
+
+    @Test
+    public void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingRecommendation(new GenreBasedRecommendation(), 0));
+    }
+}
@@ -0,0 +1,147 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class CatalogueSnapshotTest {
+    private Path directory;
+    private Path moviesFile;
+    private Path snapshotFile;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("snapshot");
+        moviesFile = directory.resolve("movies.txt");
+        snapshotFile = directory.resolve("movies.txt.snapshot");
+        Files.copy(Path.of("test_files/movies1.txt"), moviesFile);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void read_afterWrite_restoresCatalogue() throws IOException {
+        MovieCatalogue catalogue = FileReader.readCatalogue(moviesFile.toString());
+
+        FileWriter.writeSnapshot(catalogue, snapshotFile.toString(), moviesFile.toString());
+        MovieCatalogue restored = FileReader.readSnapshot(snapshotFile.toString());
+
+        assertEquals(catalogue.movies(), restored.movies());
+        assertEquals(catalogue.genreDictionary().size(), restored.genreDictionary().size());
+        for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+            assertArrayEquals(catalogue.genreMask(ordinal), restored.genreMask(ordinal));
+        }
+        assertEquals(List.of("Action", "Crime", "Drama"), List.copyOf(restored.get(2).genres()));
+        assertEquals(2, restored.ordinalOf("TDK003"));
+        assertFalse(Files.exists(directory.resolve("movies.txt.snapshot.tmp")));
+    }
+
+    @Test
+    public void read_afterWrite_preservesUnicodeAndManyGenres() throws IOException {
+        List<Movie> movies = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            movies.add(new Movie("Amélie " + index, "AM" + index, List.of("Genre" + index, "Genre" + (index + 1) % 100)));
+        }
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+
+        FileWriter.writeSnapshot(catalogue, snapshotFile.toString(), moviesFile.toString());
+        MovieCatalogue restored = FileReader.readSnapshot(snapshotFile.toString());
+
+        assertEquals(movies, restored.movies());
+        assertTrue(restored.hasGenre(99, restored.genreDictionary().idOf("Genre0")));
+        assertFalse(restored.hasGenre(50, restored.genreDictionary().idOf("Genre0")));
+    }
+
+    @Test
+    public void read_emptyCatalogue_hasNoMovies() throws IOException {
+        FileWriter.writeSnapshot(new MovieCatalogue(List.of()), snapshotFile.toString(), moviesFile.toString());
+
+        assertEquals(0, FileReader.readSnapshot(snapshotFile.toString()).size());
+    }
+
+    @Test
+    public void isCurrent_sourceChanged_returnsFalse() throws IOException {
+        MovieCatalogue catalogue = FileReader.readCatalogue(moviesFile.toString());
+        FileWriter.writeSnapshot(catalogue, snapshotFile.toString(), moviesFile.toString());
+        assertTrue(CatalogueSnapshot.isCurrent(snapshotFile.toString(), moviesFile.toString()));
+
+        FileTime modified = Files.getLastModifiedTime(moviesFile);
+        Files.setLastModifiedTime(moviesFile, FileTime.fromMillis(modified.toMillis() + 1000));
+
+        assertFalse(CatalogueSnapshot.isCurrent(snapshotFile.toString(), moviesFile.toString()));
+    }
+
+    @Test
+    public void isCurrent_editWithinTimestampGranularity_returnsFalse() throws IOException {
+        FileTime modified = FileTime.fromMillis(1_700_000_000_000L);
+        writeSnapshotAt(modified, FileTime.fromMillis(modified.toMillis() + 500));
+
+        editKeepingSizeAndTimestamp(modified);
+
+        assertFalse(CatalogueSnapshot.isCurrent(snapshotFile.toString(), moviesFile.toString()));
+    }
+
+    @Test
+    public void isCurrent_snapshotWrittenWellAfterSource_trustsSizeAndTimestamp() throws IOException {
+        FileTime modified = FileTime.fromMillis(1_700_000_000_000L);
+        writeSnapshotAt(modified, FileTime.fromMillis(modified.toMillis() + 60_000));
+
+        editKeepingSizeAndTimestamp(modified);
+
+        assertTrue(CatalogueSnapshot.isCurrent(snapshotFile.toString(), moviesFile.toString()));
+    }
+
+    private void writeSnapshotAt(FileTime sourceModified, FileTime snapshotModified) throws IOException {
+        Files.setLastModifiedTime(moviesFile, sourceModified);
+        FileWriter.writeSnapshot(FileReader.readCatalogue(moviesFile.toString()), snapshotFile.toString(), moviesFile.toString());
+        Files.setLastModifiedTime(snapshotFile, snapshotModified);
+    }
+
+    private void editKeepingSizeAndTimestamp(FileTime modified) throws IOException {
+        String movies = Files.readString(moviesFile, StandardCharsets.UTF_8);
+        Files.writeString(moviesFile, movies.replace("The Godfather", "The Godmother"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(moviesFile, modified);
+        assertEquals(movies.length(), Files.readString(moviesFile, StandardCharsets.UTF_8).length());
+    }
+
+    @Test
+    public void isCurrent_missingSnapshot_returnsFalse() throws IOException {
+        assertFalse(CatalogueSnapshot.isCurrent(snapshotFile.toString(), moviesFile.toString()));
+    }
+
+    @Test
+    public void read_notASnapshot_throwsIOException() throws IOException {
+        Files.writeString(snapshotFile, "The Godfather,TG002\nCrime,Drama\nThe Dark Knight,TDK003\n", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> FileReader.readSnapshot(snapshotFile.toString()));
+        assertFalse(CatalogueSnapshot.isCurrent(snapshotFile.toString(), moviesFile.toString()));
+    }
+
+    @Test
+    public void read_truncatedSnapshot_throwsIOException() throws IOException {
+        MovieCatalogue catalogue = FileReader.readCatalogue(moviesFile.toString());
+        FileWriter.writeSnapshot(catalogue, snapshotFile.toString(), moviesFile.toString());
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(bytes, bytes.length - 12));
+
+        assertThrows(IOException.class, () -> FileReader.readSnapshot(snapshotFile.toString()));
+    }
+}
@@ -0,0 +1,46 @@
+package org.software.testing;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FavouriteIndexTest {
+    @Test
+    public void apply_addedMovie_reachesOnlyFansOfItsGenre() {
+        MovieCatalogue catalogue = new MovieCatalogue(Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("The Notebook", "M2", Arrays.asList("Drama"))));
+        User sciFan = new User("Sci Fan", "00000001A", Arrays.asList("M1"));
+        User dramaFan = new User("Drama Fan", "00000002A", Arrays.asList("M2"));
+        FavouriteIndex index = FavouriteIndex.build(List.of(sciFan, dramaFan), catalogue);
+
+        FavouriteIndex.Update update = index.apply(new RecommendationDelta(
+                List.of(new Movie("Arrival", "M3", Arrays.asList("Sci-Fi"))), List.of(), List.of()), catalogue);
+
+        assertEquals(List.of(sciFan), update.affectedUsers());
+        assertTrue(update.replacedUsers().isEmpty());
+    }
+
+    @Test
+    public void apply_changedUser_replacesPreviousEntry() {
+        MovieCatalogue catalogue = new MovieCatalogue(Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("The Notebook", "M2", Arrays.asList("Drama"))));
+        User fan = new User("Fan", "00000001A", Arrays.asList("M1"));
+        FavouriteIndex index = FavouriteIndex.build(List.of(fan), catalogue);
+        User changed = new User("Fan", "00000001A", Arrays.asList("M2"));
+
+        FavouriteIndex.Update update = index.apply(new RecommendationDelta(List.of(), List.of(), List.of(changed)), catalogue);
+        FavouriteIndex.Update sciFiUpdate = index.apply(new RecommendationDelta(
+                List.of(new Movie("Arrival", "M3", Arrays.asList("Sci-Fi"))), List.of(), List.of()), catalogue);
+
+        assertEquals(List.of(changed), update.affectedUsers());
+        assertEquals(List.of(fan), update.replacedUsers());
+        assertSame(changed, index.user("00000001A"));
+        assertEquals(1, index.size());
+        assertTrue(sciFiUpdate.affectedUsers().isEmpty());
+    }
+}
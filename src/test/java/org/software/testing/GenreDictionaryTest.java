@@ -0,0 +1,72 @@
+package org.software.testing;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GenreDictionaryTest {
+
+    @Test
+    public void intern_sameGenre_returnsSameId() {
+        GenreDictionary dictionary = new GenreDictionary();
+        int drama = dictionary.intern("Drama");
+        int crime = dictionary.intern("Crime");
+
+        assertEquals(drama, dictionary.intern("Drama"));
+        assertNotEquals(drama, crime);
+        assertEquals("Crime", dictionary.genre(crime));
+        assertEquals(2, dictionary.size());
+        assertEquals(-1, dictionary.idOf("Action"));
+    }
+
+    @Test
+    public void canonical_equalStrings_returnsSharedInstance() {
+        GenreDictionary dictionary = new GenreDictionary();
+        String first = dictionary.canonical(new String("Drama"));
+        String second = dictionary.canonical(new String("Drama"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void encode_setsOneBitPerKnownGenre() {
+        GenreDictionary dictionary = new GenreDictionary();
+        dictionary.intern("Drama");
+        dictionary.intern("Crime");
+        dictionary.intern("Action");
+
+        long[] mask = dictionary.encode(Arrays.asList("Action", "Drama", "Unknown"));
+
+        assertEquals(1, mask.length);
+        assertEquals(0b101L, mask[0]);
+    }
+
+    @Test
+    public void catalogue_moreThanSixtyFourGenres_usesSeveralWords() {
+        List<Movie> movies = new ArrayList<>();
+        for (int index = 0; index < 70; index++) {
+            movies.add(new Movie("Movie", "M" + index, Arrays.asList("Genre" + index)));
+        }
+        movies.add(new Movie("Mixed", "MIX", Arrays.asList("Genre1", "Genre69")));
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+        GenreDictionary dictionary = catalogue.genreDictionary();
+
+        assertEquals(2, dictionary.wordCount());
+        assertTrue(catalogue.hasGenre(70, dictionary.idOf("Genre69")));
+        assertTrue(catalogue.hasGenre(70, dictionary.idOf("Genre1")));
+        assertFalse(catalogue.hasGenre(70, dictionary.idOf("Genre2")));
+        assertTrue(catalogue.sharesGenre(69, catalogue.genreMask(70)));
+        assertFalse(catalogue.sharesGenre(68, catalogue.genreMask(70)));
+    }
+
+    @Test
+    public void readMovies_internsRepeatedGenres() throws Exception {
+        List<Movie> movies = FileReader.readMovies("test_files/movies1.txt");
+
+        assertSame(movies.get(0).genres().get(0), movies.get(1).genres().get(1));
+    }
+}
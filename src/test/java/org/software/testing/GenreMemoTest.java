@@ -0,0 +1,79 @@
+package org.software.testing;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GenreMemoTest {
+    private final List<Movie> movies = Arrays.asList(
+            new Movie("Inception", "M1", Arrays.asList("Sci-Fi", "Action")),
+            new Movie("The Matrix", "M2", Arrays.asList("Action")),
+            new Movie("The Notebook", "M3", Arrays.asList("Drama")),
+            new Movie("Mad Max", "M4", Arrays.asList("Action", "Drama", "Action"))
+    );
+
+    @Test
+    public void ordinals_knownGenre_listsMoviesInCatalogueOrder() {
+        GenreMemo memo = new GenreMemo(new MovieCatalogue(movies));
+
+        assertArrayEquals(new int[]{0, 1, 3}, memo.ordinals("Action"));
+        assertArrayEquals(new int[]{2, 3}, memo.ordinals("Drama"));
+        assertTrue(memo.hasUniqueIds());
+    }
+
+    @Test
+    public void ordinals_unknownGenre_isEmpty() {
+        GenreMemo memo = new GenreMemo(new MovieCatalogue(movies));
+
+        assertEquals(0, memo.ordinals("Horror").length);
+        assertEquals(0, memo.ordinals(-1).length);
+    }
+
+    @Test
+    public void ordinals_sharesPostingsWithGenreIndex() {
+        GenreIndex index = GenreIndex.build(new MovieCatalogue(movies));
+
+        assertSame(index.ordinalsByGenre("Action"), new GenreMemo(index).ordinals("Action"));
+    }
+
+    @Test
+    public void ordinals_genresBeyondFirstMaskWord_areIndexed() {
+        List<Movie> manyGenres = new ArrayList<>();
+        for (int index = 0; index < 130; index++) {
+            manyGenres.add(new Movie("Movie " + index, "M" + index, Arrays.asList("G" + index, "G" + (index + 1) % 130)));
+        }
+        GenreMemo memo = new GenreMemo(new MovieCatalogue(manyGenres));
+
+        assertArrayEquals(new int[]{0, 129}, memo.ordinals("G0"));
+        assertArrayEquals(new int[]{63, 64}, memo.ordinals("G64"));
+        assertArrayEquals(new int[]{128, 129}, memo.ordinals("G129"));
+    }
+
+    @Test
+    public void recommend_catalogue_matchesListBasedRecommendation() {
+        Random random = new Random(7);
+        List<Movie> generatedMovies = TestData.randomMovies(random, 300, 12);
+        MovieCatalogue catalogue = new MovieCatalogue(generatedMovies);
+        GenreBasedRecommendation strategy = new GenreBasedRecommendation();
+
+        for (User user : TestData.randomUsers(random, 50, generatedMovies, "M999")) {
+            assertEquals(strategy.recommend(user, generatedMovies), strategy.recommend(user, catalogue));
+        }
+    }
+
+    @Test
+    public void recommend_duplicateMovies_areRecommendedOnce() {
+        Movie matrix = new Movie("The Matrix", "M2", Arrays.asList("Action"));
+        List<Movie> duplicated = Arrays.asList(movies.get(0), matrix, matrix);
+        MovieCatalogue catalogue = new MovieCatalogue(duplicated);
+        User user = new User("User", "00000001A", Arrays.asList("M1"));
+
+        assertFalse(new GenreMemo(catalogue).hasUniqueIds());
+        assertEquals(List.of(matrix), new GenreBasedRecommendation().recommend(user, catalogue));
+    }
+}
@@ -0,0 +1,136 @@
+package org.software.testing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalMovieRecommendationServiceTest {
+    private final Set<String> recomputedUserIds = new HashSet<>();
+    private MovieRecommendationService movieService;
+    private List<Movie> movies;
+    private List<User> users;
+
+    @Before
+    public void setUp() {
+        movieService = new MovieRecommendationService(new GenreBasedRecommendation() {
+            @Override
+            public List<List<Movie>> recommendBatch(List<User> batch, MovieCatalogue catalogue) {
+                for (User user : batch) {
+                    recomputedUserIds.add(user.id());
+                }
+                return super.recommendBatch(batch, catalogue);
+            }
+        });
+        movies = new ArrayList<>(Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("The Matrix", "M2", Arrays.asList("Action")),
+                new Movie("Mad Max", "M3", Arrays.asList("Action", "Drama")),
+                new Movie("The Notebook", "M4", Arrays.asList("Drama"))
+        ));
+        users = new ArrayList<>(Arrays.asList(
+                new User("Sci Fan", "00000001A", Arrays.asList("M1")),
+                new User("Action Fan", "00000002A", Arrays.asList("M2")),
+                new User("Drama Fan", "00000003A", Arrays.asList("M4"))
+        ));
+    }
+
+    @Test
+    public void updateRecommendations_addedMovie_recomputesOnlyUsersSharingItsGenre() {
+        MovieCatalogue before = new MovieCatalogue(new ArrayList<>(movies));
+        FavouriteIndex index = FavouriteIndex.build(users, before);
+        Map<User, List<Movie>> previous = movieService.generateRecommendations(users, before);
+        recomputedUserIds.clear();
+
+        Movie added = new Movie("Arrival", "M5", Arrays.asList("Sci-Fi"));
+        movies.add(added);
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+        RecommendationDelta delta = new RecommendationDelta(List.of(added), List.of(), List.of());
+        Map<User, List<Movie>> updated = movieService.updateRecommendations(previous, index, catalogue, delta);
+
+        assertEquals(Set.of("00000001A"), recomputedUserIds);
+        assertSame(previous.get(users.get(1)), updated.get(users.get(1)));
+        assertEquals(movieService.generateRecommendations(users, catalogue), updated);
+    }
+
+    @Test
+    public void updateRecommendations_removedFavourite_recomputesItsFans() {
+        MovieCatalogue before = new MovieCatalogue(new ArrayList<>(movies));
+        FavouriteIndex index = FavouriteIndex.build(users, before);
+        Map<User, List<Movie>> previous = movieService.generateRecommendations(users, before);
+        recomputedUserIds.clear();
+
+        movies.remove(3);
+        MovieCatalogue after = new MovieCatalogue(movies);
+        Map<User, List<Movie>> updated = movieService.updateRecommendations(previous, index, after,
+                RecommendationDelta.between(before, after));
+
+        assertTrue(recomputedUserIds.contains("00000003A"));
+        assertFalse(recomputedUserIds.contains("00000001A"));
+        assertEquals(movieService.generateRecommendations(users, after), updated);
+    }
+
+    @Test
+    public void updateRecommendations_changedAndNewUsers_areRecomputed() {
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+        FavouriteIndex index = FavouriteIndex.build(users, catalogue);
+        Map<User, List<Movie>> previous = movieService.generateRecommendations(users, catalogue);
+        recomputedUserIds.clear();
+
+        User changed = new User("Sci Fan", "00000001A", Arrays.asList("M3"));
+        User added = new User("New Fan", "00000004A", Arrays.asList("M1"));
+        users.set(0, changed);
+        users.add(added);
+        Map<User, List<Movie>> updated = movieService.updateRecommendations(previous, index, catalogue,
+                new RecommendationDelta(List.of(), List.of(), List.of(changed, added)));
+
+        assertEquals(Set.of("00000001A", "00000004A"), recomputedUserIds);
+        assertEquals(movieService.generateRecommendations(users, catalogue), updated);
+    }
+
+    @Test
+    public void updateRecommendations_consecutiveDeltas_recomputeOnlyReachableUsers() {
+        MovieCatalogue before = new MovieCatalogue(new ArrayList<>(movies));
+        FavouriteIndex index = FavouriteIndex.build(users, before);
+        Map<User, List<Movie>> previous = movieService.generateRecommendations(users, before);
+        recomputedUserIds.clear();
+
+        movies.set(1, new Movie("The Matrix", "M2", Arrays.asList("Action", "Sci-Fi")));
+        MovieCatalogue modified = new MovieCatalogue(new ArrayList<>(movies));
+        previous = movieService.updateRecommendations(previous, index, modified, RecommendationDelta.between(before, modified));
+        assertEquals(Set.of("00000001A", "00000002A"), recomputedUserIds);
+        recomputedUserIds.clear();
+
+        Movie added = new Movie("Arrival", "M5", Arrays.asList("Sci-Fi"));
+        movies.add(added);
+        MovieCatalogue after = new MovieCatalogue(movies);
+        Map<User, List<Movie>> updated = movieService.updateRecommendations(previous, index, after,
+                new RecommendationDelta(List.of(added), List.of(), List.of()));
+
+        assertEquals(Set.of("00000001A", "00000002A"), recomputedUserIds);
+        assertEquals(movieService.generateRecommendations(users, after), updated);
+    }
+
+    @Test
+    public void between_modifiedMovie_isRemovedAndAdded() {
+        MovieCatalogue before = new MovieCatalogue(new ArrayList<>(movies));
+        movies.set(1, new Movie("The Matrix", "M2", Arrays.asList("Action", "Sci-Fi")));
+        MovieCatalogue after = new MovieCatalogue(movies);
+
+        RecommendationDelta delta = RecommendationDelta.between(before, after);
+
+        assertEquals(List.of(movies.get(1)), delta.addedMovies());
+        assertEquals(List.of(before.get(1)), delta.removedMovies());
+        assertEquals(Set.of("M2"), delta.changedMovieIds());
+    }
+}
@@ -0,0 +1,118 @@
+package org.software.testing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class IndexedGenreRecommendationTest {
+
+    private IndexedGenreRecommendation recommender;
+    private List<Movie> allMovies;
+
+    @Before
+    public void setUp() {
+        recommender = new IndexedGenreRecommendation();
+
+        allMovies = Arrays.asList(
+                new Movie("The Matrix", "TM123", Arrays.asList("Action", "Sci-Fi")),
+                new Movie("John Wick", "JW456", Arrays.asList("Action", "Thriller")),
+                new Movie("Finding Nemo", "FN789", Arrays.asList("Animation", "Family")),
+                new Movie("Inception", "I111", Arrays.asList("Action", "Sci-Fi")),
+                new Movie("The Notebook", "TN222", Arrays.asList("Romance", "Drama")),
+                new Movie("Black Bag", "BB214", Arrays.asList("Drama"))
+        );
+    }
+
+    @Test
+    public void testRecommendWithMatchingGenre() {
+        User user = new User("Alice", "12345X", Arrays.asList("TN222")); // Likes "The Notebook"
+        List<Movie> recommendations = recommender.recommend(user, allMovies);
+
+        assertEquals(1, recommendations.size());
+        assertTrue(recommendations.contains(new Movie("Black Bag", "BB214", Arrays.asList("Drama"))));
+    }
+
+    @Test
+    public void testRecommendCheckNoDuplicateRecommendations() {
+        User user = new User("Alice", "12345X", Arrays.asList("TM123")); // Likes "The Matrix"
+        List<Movie> recommendations = recommender.recommend(user, allMovies);
+
+        assertEquals(2, recommendations.size());
+        assertTrue(recommendations.contains(new Movie("John Wick", "JW456", Arrays.asList("Action", "Thriller"))));
+        assertTrue(recommendations.contains(new Movie("Inception", "I111", Arrays.asList("Action", "Sci-Fi"))));
+    }
+
+    @Test
+    public void testRecommendMatchesGenreBasedRecommendationOrder() {
+        GenreBasedRecommendation reference = new GenreBasedRecommendation();
+        List<User> users = Arrays.asList(
+                new User("Alice", "12345X", Arrays.asList("JW456", "BB214")),
+                new User("Bob", "98765Y", Arrays.asList("TN222", "TM123", "FN789")),
+                new User("Charlie", "45678Z", Arrays.asList("I111", "NON_EXISTENT"))
+        );
+
+        for (User user : users) {
+            assertEquals(reference.recommend(user, allMovies), recommender.recommend(user, allMovies));
+        }
+    }
+
+    @Test
+    public void testRecommendWithPrebuiltIndex() {
+        GenreIndex index = GenreIndex.build(allMovies);
+        IndexedGenreRecommendation prebuilt = new IndexedGenreRecommendation(index);
+        User user = new User("Alice", "12345X", Arrays.asList("TM123"));
+
+        assertEquals(recommender.recommend(user, allMovies), prebuilt.recommend(user, index));
+        assertEquals(recommender.recommend(user, allMovies), prebuilt.recommend(user, allMovies));
+    }
+
+    @Test
+    public void testRecommendRebuildsIndexForNewMovieList() {
+        User user = new User("Alice", "12345X", Arrays.asList("TN222"));
+        assertEquals(1, recommender.recommend(user, allMovies).size());
+
+        List<Movie> otherMovies = Arrays.asList(
+                new Movie("The Notebook", "TN222", Arrays.asList("Romance", "Drama")),
+                new Movie("Pride And Prejudice", "PAP333", Arrays.asList("Romance")),
+                new Movie("Black Bag", "BB214", Arrays.asList("Drama"))
+        );
+        assertEquals(2, recommender.recommend(user, otherMovies).size());
+    }
+
+    @Test
+    public void testRecommendWithNoMatchingGenres() {
+        User user = new User("Bob", "98765Y", Arrays.asList("FN789")); // Likes "Finding Nemo"
+        List<Movie> recommendations = recommender.recommend(user, allMovies);
+
+        assertTrue(recommendations.isEmpty());
+    }
+
+    @Test
+    public void testRecommendWhenUserHasNoFavorites() {
+        User user = new User("Charlie", "45678Z", Collections.<String>emptyList());
+        List<Movie> recommendations = recommender.recommend(user, allMovies);
+
+        assertTrue(recommendations.isEmpty());
+    }
+
+    @Test
+    public void testRecommendWithEmptyMovieList() {
+        User user = new User("Daisy", "23456A", Arrays.asList("TM123"));
+        List<Movie> recommendations = recommender.recommend(user, Collections.<Movie>emptyList());
+
+        assertTrue(recommendations.isEmpty());
+    }
+
+    @Test
+    public void testRecommendWhenFavoriteMovieIdNotFound() {
+        User user = new User("Eli", "54321B", Arrays.asList("NON_EXISTENT"));
+        List<Movie> recommendations = recommender.recommend(user, allMovies);
+
+        assertTrue(recommendations.isEmpty());
+    }
+}
@@ -0,0 +1,170 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class MainPipelineTest {
+    private Path directory;
+    private Path usersFile;
+    private Path moviesFile;
+    private Path outputFile;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("pipeline");
+        usersFile = directory.resolve("users.txt");
+        moviesFile = directory.resolve("movies.txt");
+        outputFile = directory.resolve("recommendations.txt");
+        Files.copy(Path.of("test_files/movies1.txt"), moviesFile);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void runPipeline_validInput_writesRecommendationsInInputOrder() throws IOException {
+        Files.copy(Path.of("test_files/users1.txt"), usersFile);
+
+        Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString());
+
+        String expected = "Ahmed Hassan, 12345678A\n"
+                + "The Dark Knight\n"
+                + "Sara Mohamed, 23456789B\n"
+                + "The Godfather, The Shawshank Redemption\n";
+        assertEquals(expected, Files.readString(outputFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runPipeline_withLimit_writesTopRankedRecommendations() throws IOException {
+        Files.copy(Path.of("test_files/users1.txt"), usersFile);
+
+        Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString(), 1);
+
+        String expected = "Ahmed Hassan, 12345678A\n"
+                + "The Dark Knight\n"
+                + "Sara Mohamed, 23456789B\n"
+                + "The Godfather\n";
+        assertEquals(expected, Files.readString(outputFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runPipeline_duplicateUserId_throwsAndWritesNothing() throws IOException {
+        Files.writeString(usersFile, "Ahmed Hassan,12345678A\nTSR001\nSara Mohamed,12345678A\nTG002\n", StandardCharsets.UTF_8);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString()));
+
+        assertEquals("User ID 12345678A is not unique", exception.getMessage());
+        assertEquals(ErrorCode.USER_ID_ERROR, exception.getErrorCode());
+        assertFalse(Files.exists(outputFile));
+        assertFalse(Files.exists(directory.resolve("recommendations.txt.tmp")));
+    }
+
+    @Test
+    public void runPipeline_unknownFavourite_throwsMovieNotFound() throws IOException {
+        Files.writeString(usersFile, "Ahmed Hassan,12345678A\nA123\n", StandardCharsets.UTF_8);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString()));
+
+        assertEquals(ErrorCode.MOVIE_NOT_FOUND_ERROR, exception.getErrorCode());
+    }
+
+    @Test
+    public void runPipeline_repeatRun_loadsCatalogueFromSnapshot() throws IOException {
+        Files.copy(Path.of("test_files/users1.txt"), usersFile);
+        Path snapshotFile = directory.resolve("movies.txt.snapshot");
+
+        Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString());
+        String firstRun = Files.readString(outputFile, StandardCharsets.UTF_8);
+        assertTrue(CatalogueSnapshot.isCurrent(snapshotFile.toString(), moviesFile.toString()));
+
+        Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString());
+
+        assertEquals(firstRun, Files.readString(outputFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runPipeline_invalidMovies_writesNoSnapshot() throws IOException {
+        Files.writeString(moviesFile, "the godfather,TG002\nCrime\n", StandardCharsets.UTF_8);
+        Files.writeString(usersFile, "Ahmed Hassan,12345678A\nTG002\n", StandardCharsets.UTF_8);
+
+        assertThrows(AppException.class,
+                () -> Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString()));
+
+        assertFalse(Files.exists(directory.resolve("movies.txt.snapshot")));
+    }
+
+    @Test
+    public void runOffHeapPipeline_validInput_matchesOnHeapPipeline() throws IOException {
+        Files.copy(Path.of("test_files/users1.txt"), usersFile);
+        Path offHeapOutput = directory.resolve("recommendations-off-heap.txt");
+
+        Main.runPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString());
+        Main.runOffHeapPipeline(usersFile.toString(), moviesFile.toString(), offHeapOutput.toString());
+        Main.runOffHeapPipeline(usersFile.toString(), moviesFile.toString(), offHeapOutput.toString());
+
+        assertEquals(Files.readString(outputFile, StandardCharsets.UTF_8), Files.readString(offHeapOutput, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runOffHeapPipeline_unknownFavourite_throwsMovieNotFound() throws IOException {
+        Files.writeString(usersFile, "Ahmed Hassan,12345678A\nA123\n", StandardCharsets.UTF_8);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> Main.runOffHeapPipeline(usersFile.toString(), moviesFile.toString(), outputFile.toString()));
+
+        assertEquals(ErrorCode.MOVIE_NOT_FOUND_ERROR, exception.getErrorCode());
+        assertFalse(Files.exists(outputFile));
+    }
+
+    @Test
+    public void parseLimit_validTopFlag_returnsLimit() {
+        assertEquals(3, Main.parseLimit(new String[]{"--pipeline", "--top=3"}));
+        assertEquals(Integer.MAX_VALUE, Main.parseLimit(new String[]{"--pipeline"}));
+    }
+
+    @Test
+    public void parseLimit_invalidTopValue_throws() {
+        for (String value : new String[]{"abc", "0", "-2", ""}) {
+            assertThrows(IllegalArgumentException.class, () -> Main.parseLimit(new String[]{"--pipeline", "--top=" + value}));
+        }
+    }
+
+    @Test
+    public void parseLimit_topWithoutPipeline_throws() {
+        assertThrows(IllegalArgumentException.class, () -> Main.parseLimit(new String[]{"--top=3"}));
+        assertThrows(IllegalArgumentException.class, () -> Main.parseLimit(new String[]{"--pipeline", "--off-heap", "--top=3"}));
+    }
+
+    @Test
+    public void writeOutput_strategyFails_keepsPreviousOutput() throws IOException {
+        Files.writeString(outputFile, "previous\n", StandardCharsets.UTF_8);
+        MovieCatalogue catalogue = FileReader.readCatalogue(moviesFile.toString());
+        MovieRecommendationService failingService = new MovieRecommendationService((user, movies) -> {
+            throw new IllegalStateException("strategy failed");
+        });
+        List<User> users = List.of(new User("Ahmed Hassan", "12345678A", List.of("TG002")));
+
+        assertThrows(IllegalStateException.class,
+                () -> Main.writeOutput(failingService, users, catalogue, outputFile.toString()));
+
+        assertEquals("previous\n", Files.readString(outputFile, StandardCharsets.UTF_8));
+        assertFalse(Files.exists(directory.resolve("recommendations.txt.tmp")));
+    }
+}
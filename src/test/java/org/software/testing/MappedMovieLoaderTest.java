@@ -0,0 +1,80 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MappedMovieLoaderTest {
+    private Path tempFile;
+
+    @After
+    public void tearDown() throws IOException {
+        if (tempFile != null) {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    public void mapCatalogue_validInput_matchesReadMovies() throws IOException {
+        for (String path : List.of("test_files/movies1.txt", "test_files/movies2.txt")) {
+            MovieCatalogue catalogue = FileReader.mapCatalogue(path);
+
+            assertEquals(FileReader.readMovies(path), catalogue.movies());
+        }
+    }
+
+    @Test
+    public void mapCatalogue_emptyFile_hasNoMovies() throws IOException {
+        assertEquals(0, FileReader.mapCatalogue("test_files/emptyMovies.txt").size());
+    }
+
+    @Test
+    public void mapCatalogue_mixedLineEndingsAndPadding_matchesReadMovies() throws IOException {
+        tempFile = Files.createTempFile("movies", ".txt");
+        Files.writeString(tempFile,
+                " The Shawshank Redemption , TSR001 ,extra\r\nDrama ,  Crime,,\r\n"
+                        + "Amélie,A002\rRomance\n"
+                        + "Untitled,U003\n\n",
+                StandardCharsets.UTF_8);
+
+        MovieCatalogue catalogue = FileReader.mapCatalogue(tempFile.toString());
+
+        assertEquals(FileReader.readMovies(tempFile.toString()), catalogue.movies());
+        assertEquals("Amélie", catalogue.get(1).title());
+        assertEquals(List.of(""), catalogue.get(2).genres());
+    }
+
+    @Test
+    public void mapCatalogue_sharesGenreInstances() throws IOException {
+        tempFile = Files.createTempFile("movies", ".txt");
+        Files.writeString(tempFile, "Movie One,MO001\nDrama\nMovie Two,MT002\nDrama\n", StandardCharsets.UTF_8);
+
+        MovieCatalogue catalogue = FileReader.mapCatalogue(tempFile.toString());
+
+        assertSame(catalogue.get(0).genres().getFirst(), catalogue.get(1).genres().getFirst());
+    }
+
+    @Test
+    public void mapCatalogue_missingGenresLine_throwsIndexOutOfBounds() throws IOException {
+        tempFile = Files.createTempFile("movies", ".txt");
+        Files.writeString(tempFile, "Movie One,MO001\nDrama\nMovie Two,MT002\n", StandardCharsets.UTF_8);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> FileReader.mapCatalogue(tempFile.toString()));
+    }
+
+    @Test
+    public void mapCatalogue_missingMovieId_throwsIndexOutOfBounds() throws IOException {
+        tempFile = Files.createTempFile("movies", ".txt");
+        Files.writeString(tempFile, "Movie One\nDrama\n", StandardCharsets.UTF_8);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> FileReader.mapCatalogue(tempFile.toString()));
+        assertThrows(IndexOutOfBoundsException.class, () -> FileReader.readMovies(tempFile.toString()));
+    }
+}
@@ -0,0 +1,78 @@
+package org.software.testing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MovieCatalogueTest {
+
+    private List<Movie> movies;
+    private MovieCatalogue catalogue;
+
+    @Before
+    public void setUp() {
+        movies = Arrays.asList(
+                new Movie("The Shawshank Redemption", "TSR001", Arrays.asList("Drama")),
+                new Movie("The Godfather", "TG002", Arrays.asList("Crime", "Drama")),
+                new Movie("The Dark Knight", "TDK003", Arrays.asList("Action", "Crime", "Drama"))
+        );
+        catalogue = new MovieCatalogue(movies);
+    }
+
+    @Test
+    public void findById_existingId_returnsMovie() {
+        assertEquals(movies.get(1), catalogue.findById("TG002"));
+        assertEquals(1, catalogue.ordinalOf("TG002"));
+        assertTrue(catalogue.contains("TDK003"));
+    }
+
+    @Test
+    public void findById_missingId_returnsNull() {
+        assertNull(catalogue.findById("I004"));
+        assertEquals(-1, catalogue.ordinalOf("I004"));
+        assertFalse(catalogue.contains("I004"));
+    }
+
+    @Test
+    public void findById_duplicateId_returnsFirstMovie() {
+        MovieCatalogue duplicates = new MovieCatalogue(Arrays.asList(
+                new Movie("The Godfather", "TG002", Arrays.asList("Crime")),
+                new Movie("The Godfather Part Two", "TG002", Arrays.asList("Drama"))
+        ));
+        assertEquals("The Godfather", duplicates.findById("TG002").title());
+    }
+
+    @Test
+    public void readCatalogue_validFile_indexesAllMovies() throws IOException {
+        MovieCatalogue fileCatalogue = FileReader.readCatalogue("test_files/movies1.txt");
+        assertEquals(4, fileCatalogue.size());
+        assertEquals("Inception", fileCatalogue.findById("I004").title());
+    }
+
+    @Test
+    public void validate_withCatalogue_acceptsKnownFavourites() {
+        List<User> users = Arrays.asList(new User("Ahmed Hassan", "12345678A", Arrays.asList("TSR001", "TG002")));
+        new ValidationService(catalogue, users).validate();
+    }
+
+    @Test
+    public void validate_withCatalogue_rejectsUnknownFavourite() {
+        List<User> users = Arrays.asList(new User("Ahmed Hassan", "12345678A", Arrays.asList("I004")));
+        AppException exception = assertThrows(AppException.class, () -> new ValidationService(catalogue, users).validate());
+        assertEquals("Movie I004 not found", exception.getMessage());
+        assertEquals(ErrorCode.MOVIE_NOT_FOUND_ERROR, exception.getErrorCode());
+    }
+
+    @Test
+    public void recommend_withCatalogue_matchesListRecommendation() {
+        User user = new User("Sara Mohamed", "23456789B", Arrays.asList("TSR001"));
+        GenreBasedRecommendation recommender = new GenreBasedRecommendation();
+        assertEquals(recommender.recommend(user, movies), recommender.recommend(user, catalogue));
+        assertEquals(recommender.recommend(user, movies), new IndexedGenreRecommendation().recommend(user, catalogue));
+    }
+}
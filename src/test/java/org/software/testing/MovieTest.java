@@ -42,6 +42,22 @@ public class MovieTest {
         assertEquals(movie1, movie2);
     }
 
+    @Test
+    public void hashCode_sameGenresDifferentOrder_isEqual() {
+        Movie movie1 = new Movie("Inception", "001", List.of("Sci-Fi", "Thriller"));
+        Movie movie2 = new Movie("Inception", "001", List.of("Thriller", "Sci-Fi", "Thriller"));
+        assertEquals(movie1, movie2);
+        assertEquals(movie1.hashCode(), movie2.hashCode());
+    }
+
+    @Test
+    public void genres_keepOriginalOrderAndSupportLookup() {
+        Movie movie = new Movie("Inception", "001", List.of("Thriller", "Sci-Fi"));
+        assertEquals(List.of("Thriller", "Sci-Fi"), movie.genres());
+        assertTrue(movie.genres().contains("Sci-Fi"));
+        assertFalse(movie.genres().contains("Drama"));
+    }
+
     @Test
     public void equals_nullObject_returnsFalse() {
         Movie movie = new Movie("Inception", "001", List.of("Sci-Fi", "Thriller"));
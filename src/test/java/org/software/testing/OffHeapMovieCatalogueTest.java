@@ -0,0 +1,106 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class OffHeapMovieCatalogueTest {
+    private Path directory;
+    private Path moviesFile;
+    private Path snapshotFile;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("offheap");
+        moviesFile = directory.resolve("movies.txt");
+        snapshotFile = directory.resolve("movies.txt.snapshot");
+        Files.copy(Path.of("test_files/movies1.txt"), moviesFile);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private OffHeapMovieCatalogue openSnapshotOf(MovieCatalogue catalogue) throws IOException {
+        FileWriter.writeSnapshot(catalogue, snapshotFile.toString(), moviesFile.toString());
+        return OffHeapMovieCatalogue.open(snapshotFile.toString());
+    }
+
+    @Test
+    public void open_exposesEveryMovieThroughFlyweightView() throws IOException {
+        MovieCatalogue catalogue = FileReader.readCatalogue(moviesFile.toString());
+
+        try (OffHeapMovieCatalogue offHeap = openSnapshotOf(catalogue)) {
+            assertEquals(catalogue.size(), offHeap.size());
+            OffHeapMovieCatalogue.MovieView view = offHeap.view();
+            for (int ordinal = 0; ordinal < catalogue.size(); ordinal++) {
+                Movie movie = catalogue.get(ordinal);
+                assertEquals(movie.title(), view.moveTo(ordinal).title());
+                assertEquals(movie.id(), view.id());
+                assertEquals(List.copyOf(movie.genres()), view.genres());
+                assertEquals(movie, view.toMovie());
+                assertEquals(ordinal, offHeap.ordinalOf(movie.id()));
+            }
+            assertEquals(-1, offHeap.ordinalOf("X999"));
+            assertFalse(offHeap.contains(null));
+            assertTrue(offHeap.hasGenre(2, offHeap.genreDictionary().idOf("Action")));
+            assertFalse(offHeap.hasGenre(0, offHeap.genreDictionary().idOf("Action")));
+        }
+    }
+
+    @Test
+    public void recommend_matchesGenreBasedRecommendation() throws IOException {
+        Random random = new Random(5);
+        MovieCatalogue catalogue = new MovieCatalogue(TestData.randomMovies(random, 400, 80));
+        GenreBasedRecommendation reference = new GenreBasedRecommendation();
+        OffHeapGenreRecommendation recommendation = new OffHeapGenreRecommendation();
+
+        try (OffHeapMovieCatalogue offHeap = openSnapshotOf(catalogue)) {
+            for (User user : TestData.randomUsers(random, 100, catalogue.movies(), "X1")) {
+                List<Movie> expected = reference.recommend(user, catalogue);
+                int[] ordinals = recommendation.recommend(user, offHeap);
+
+                assertEquals(expected.size(), ordinals.length);
+                for (int position = 0; position < ordinals.length; position++) {
+                    assertEquals(expected.get(position).id(), offHeap.id(ordinals[position]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void open_duplicateMovieIds_throwsIOException() throws IOException {
+        Movie movie = new Movie("The Godfather", "TG002", Arrays.asList("Crime"));
+        FileWriter.writeSnapshot(new MovieCatalogue(Arrays.asList(movie, new Movie("Other", "TG002", Arrays.asList("Drama")))),
+                snapshotFile.toString(), moviesFile.toString());
+
+        assertThrows(IOException.class, () -> OffHeapMovieCatalogue.open(snapshotFile.toString()));
+    }
+
+    @Test
+    public void open_notASnapshot_throwsIOException() {
+        assertThrows(IOException.class, () -> OffHeapMovieCatalogue.open(moviesFile.toString()));
+    }
+
+    @Test
+    public void title_afterClose_throwsIllegalStateException() throws IOException {
+        OffHeapMovieCatalogue offHeap = openSnapshotOf(FileReader.readCatalogue(moviesFile.toString()));
+        offHeap.close();
+
+        assertThrows(IllegalStateException.class, () -> offHeap.title(0));
+    }
+}
@@ -0,0 +1,134 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelMovieRecommendationServiceTest {
+    private ForkJoinPool pool;
+    private MovieRecommendationService movieService;
+    private List<Movie> movies;
+    private List<User> users;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        movieService = new MovieRecommendationService(new GenreBasedRecommendation(), pool);
+        movies = Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("The Matrix", "M2", Arrays.asList("Action", "Sci-Fi")),
+                new Movie("Mad Max", "M3", Arrays.asList("Action"))
+        );
+        users = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            String favourite = "M" + (index % 3 + 1);
+            users.add(new User("User", String.format("%08dA", index), Arrays.asList(favourite)));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void generateRecommendationsInParallel_matchesSequentialResults() {
+        Map<User, List<Movie>> sequential = movieService.generateRecommendations(users, movies);
+        Map<User, List<Movie>> parallel = movieService.generateRecommendationsInParallel(users, movies);
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void generateRecommendationsInParallel_keepsInputOrder() {
+        Map<User, List<Movie>> parallel = movieService.generateRecommendationsInParallel(users, new MovieCatalogue(movies));
+
+        assertEquals(users, new ArrayList<>(parallel.keySet()));
+    }
+
+    @Test
+    public void generateRecommendationsInParallel_emptyUsers_returnsEmptyMap() {
+        Map<User, List<Movie>> parallel = movieService.generateRecommendationsInParallel(Collections.emptyList(), movies);
+
+        assertTrue(parallel.isEmpty());
+    }
+
+    @Test
+    public void generateRecommendations_withSink_emitsInInputOrder() throws IOException {
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+        List<User> emittedUsers = new ArrayList<>();
+        List<List<Movie>> emittedRecommendations = new ArrayList<>();
+
+        movieService.generateRecommendations(users, catalogue, (user, recommendedMovies) -> {
+            emittedUsers.add(user);
+            emittedRecommendations.add(recommendedMovies);
+        });
+
+        assertEquals(users, emittedUsers);
+        assertEquals(new GenreBasedRecommendation().recommend(users.get(3), movies), emittedRecommendations.get(3));
+    }
+
+    @Test
+    public void generateRecommendationsInParallel_withSink_emitsInInputOrder() throws IOException {
+        List<User> manyUsers = new ArrayList<>();
+        for (int index = 0; index < 5000; index++) {
+            manyUsers.add(new User("User", String.format("%08dA", index), Arrays.asList("M" + (index % 3 + 1))));
+        }
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+        List<User> emittedUsers = new ArrayList<>();
+        List<List<Movie>> emittedRecommendations = new ArrayList<>();
+
+        movieService.generateRecommendationsInParallel(manyUsers, catalogue, (user, recommendedMovies) -> {
+            emittedUsers.add(user);
+            emittedRecommendations.add(recommendedMovies);
+        });
+
+        assertEquals(manyUsers, emittedUsers);
+        Map<User, List<Movie>> expected = movieService.generateRecommendations(manyUsers, catalogue);
+        for (int index = 0; index < manyUsers.size(); index++) {
+            assertEquals(expected.get(manyUsers.get(index)), emittedRecommendations.get(index));
+        }
+    }
+
+    @Test
+    public void generateRecommendationsInParallel_failingStrategy_rethrowsCause() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        MovieRecommendationService failingService = new MovieRecommendationService((user, movieList) -> {
+            throw failure;
+        }, pool);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> failingService.generateRecommendationsInParallel(users, new MovieCatalogue(movies), (user, recommendedMovies) -> {
+                }));
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    public void generateRecommendationsInParallel_failingSink_stopsAndRethrows() {
+        List<User> emittedUsers = new ArrayList<>();
+
+        assertThrows(IOException.class,
+                () -> movieService.generateRecommendationsInParallel(users, new MovieCatalogue(movies), (user, recommendedMovies) -> {
+                    emittedUsers.add(user);
+                    if (emittedUsers.size() == 3) {
+                        throw new IOException("disk full");
+                    }
+                }));
+
+        assertEquals(users.subList(0, 3), emittedUsers);
+    }
+}
@@ -0,0 +1,77 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelUserLoaderTest {
+    private ForkJoinPool pool;
+    private Path tempFile;
+
+    @Before
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(4);
+        tempFile = Files.createTempFile("users", ".txt");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(tempFile);
+    }
+
+    @Test
+    public void readUsersInParallel_validInput_matchesReadUsers() throws IOException {
+        for (String path : List.of("test_files/users1.txt", "test_files/users2.txt")) {
+            assertEquals(FileReader.readUsers(path), FileReader.readUsersInParallel(path));
+        }
+    }
+
+    @Test
+    public void load_emptyFile_hasNoUsers() throws IOException {
+        assertTrue(ParallelUserLoader.load("test_files/emptyUsers.txt", pool).isEmpty());
+    }
+
+    @Test
+    public void load_smallChunks_realignsToRecordBoundaries() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int index = 0; index < 500; index++) {
+            String separator = index % 3 == 0 ? "\r\n" : index % 3 == 1 ? "\n" : "\r";
+            content.append("User Number").append(index).append(", ").append(String.format("%08dA", index)).append(separator)
+                    .append("M").append(index % 7).append(", Ü").append(index % 11).append(separator);
+        }
+        content.append("Last User,99999999Z\n\n");
+        Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+
+        List<User> expected = FileReader.readUsers(tempFile.toString());
+        for (int chunkSize : new int[]{1, 2, 7, 64, 1000}) {
+            List<User> users = ParallelUserLoader.load(tempFile.toString(), pool, chunkSize);
+
+            assertEquals(expected, users);
+            assertEquals(List.copyOf(expected.get(3).favouriteMovieIds()), List.copyOf(users.get(3).favouriteMovieIds()));
+        }
+    }
+
+    @Test
+    public void load_missingFavouritesLine_throwsIndexOutOfBounds() throws IOException {
+        Files.writeString(tempFile, "Ahmed Hassan,12345678A\nTSR001\nSara Mohamed,23456789B\n", StandardCharsets.UTF_8);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> ParallelUserLoader.load(tempFile.toString(), pool, 8));
+    }
+
+    @Test
+    public void load_malformedUtf8_throwsIOException() throws IOException {
+        Files.write(tempFile, new byte[]{'A', ',', '1', '\n', (byte) 0xC3, '\n'});
+
+        assertThrows(IOException.class, () -> ParallelUserLoader.load(tempFile.toString(), pool));
+    }
+}
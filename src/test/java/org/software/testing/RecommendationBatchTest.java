@@ -0,0 +1,121 @@
+package org.software.testing;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RecommendationBatchTest {
+    @Test
+    public void recommendBatch_default_delegatesToPerUserRecommend() {
+        List<User> seen = new ArrayList<>();
+        RecommendationStrategy strategy = (user, movies) -> {
+            seen.add(user);
+            return List.of(movies.get(0));
+        };
+        MovieCatalogue catalogue = new MovieCatalogue(Arrays.asList(new Movie("Inception", "M1", Arrays.asList("Sci-Fi"))));
+        List<User> users = Arrays.asList(
+                new User("First", "00000001A", Arrays.asList("M1")),
+                new User("Second", "00000002B", Arrays.asList("M1")));
+
+        List<List<Movie>> recommendations = strategy.recommendBatch(users, catalogue);
+
+        assertEquals(users, seen);
+        assertEquals(2, recommendations.size());
+        assertEquals(catalogue.movies(), recommendations.get(1));
+    }
+
+    @Test
+    public void recommendBatch_matchesPerUserRecommendForEveryStrategy() {
+        Random random = new Random(5);
+        List<Movie> movies = TestData.randomMovies(random, 300, 20);
+        movies.add(movies.get(7));
+        MovieCatalogue catalogue = new MovieCatalogue(movies);
+        List<User> users = TestData.randomUsers(random, 50, movies);
+        List<RecommendationStrategy> strategies = Arrays.asList(
+                new GenreBasedRecommendation(),
+                new IndexedGenreRecommendation(),
+                new TopKGenreRecommendation(5),
+                new BitsetGenreRecommendation(),
+                new CachingRecommendation(new GenreBasedRecommendation(), 16));
+
+        for (RecommendationStrategy strategy : strategies) {
+            List<List<Movie>> recommendations = strategy.recommendBatch(users, catalogue);
+
+            assertEquals(users.size(), recommendations.size());
+            for (int index = 0; index < users.size(); index++) {
+                assertEquals(strategy.recommend(users.get(index), catalogue), recommendations.get(index));
+            }
+        }
+    }
+
+    @Test
+    public void generateRecommendations_drivesStrategyInBatches() throws IOException {
+        Random random = new Random(9);
+        MovieCatalogue catalogue = new MovieCatalogue(TestData.randomMovies(random, 300, 20));
+        List<User> users = TestData.randomUsers(random, 2500, catalogue.movies());
+        List<Integer> batchSizes = new ArrayList<>();
+        MovieRecommendationService service = new MovieRecommendationService(new GenreBasedRecommendation() {
+            @Override
+            public List<List<Movie>> recommendBatch(List<User> batch, MovieCatalogue batchCatalogue) {
+                batchSizes.add(batch.size());
+                return super.recommendBatch(batch, batchCatalogue);
+            }
+        });
+
+        Map<User, List<Movie>> recommendations = service.generateRecommendations(users, catalogue);
+        List<User> streamedUsers = new ArrayList<>();
+        service.generateRecommendations(users, catalogue, (user, movies) -> {
+            streamedUsers.add(user);
+            assertEquals(recommendations.get(user), movies);
+        });
+
+        assertEquals(Arrays.asList(1024, 1024, 452, 1024, 1024, 452), batchSizes);
+        assertEquals(users, streamedUsers);
+        GenreBasedRecommendation reference = new GenreBasedRecommendation();
+        for (User user : users) {
+            assertEquals(reference.recommend(user, catalogue), recommendations.get(user));
+        }
+    }
+
+    @Test
+    public void limitAndParallelVariants_driveStrategyInBatches() {
+        Random random = new Random(13);
+        MovieCatalogue catalogue = new MovieCatalogue(TestData.randomMovies(random, 300, 20));
+        List<User> users = TestData.randomUsers(random, 600, catalogue.movies());
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        MovieRecommendationService service = new MovieRecommendationService(new TopKGenreRecommendation(3) {
+            @Override
+            public List<List<Movie>> recommendBatch(List<User> batch, MovieCatalogue batchCatalogue) {
+                batchSizes.add(batch.size());
+                return super.recommendBatch(batch, batchCatalogue);
+            }
+
+            @Override
+            public List<List<Movie>> recommendBatch(List<User> batch, MovieCatalogue batchCatalogue, int limit) {
+                batchSizes.add(-batch.size());
+                return super.recommendBatch(batch, batchCatalogue, limit);
+            }
+        });
+
+        Map<User, List<Movie>> limited = service.generateRecommendations(users, catalogue, 2);
+        Map<User, List<Movie>> parallel = service.generateRecommendationsInParallel(users, catalogue);
+
+        List<Integer> sortedSizes = new ArrayList<>(batchSizes);
+        Collections.sort(sortedSizes);
+        assertEquals(Arrays.asList(-600, 88, 256, 256), sortedSizes);
+        assertEquals(users, new ArrayList<>(parallel.keySet()));
+        TopKGenreRecommendation reference = new TopKGenreRecommendation(3);
+        for (User user : users) {
+            assertEquals(reference.recommend(user, catalogue, 2), limited.get(user));
+            assertEquals(reference.recommend(user, catalogue), parallel.get(user));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.software.testing;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ScratchPoolTest {
+    @Test
+    public void acquire_afterRelease_reusesInstance() {
+        ScratchPool<int[]> pool = new ScratchPool<>(() -> new int[4]);
+
+        int[] scratch = pool.acquire();
+        pool.release(scratch);
+
+        assertSame(scratch, pool.acquire());
+        assertNotSame(scratch, pool.acquire());
+    }
+
+    @Test
+    public void acquire_onVirtualThreads_createsNoMoreThanConcurrentUse() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        ScratchPool<int[]> pool = new ScratchPool<>(() -> {
+            created.incrementAndGet();
+            return new int[1024];
+        });
+        Semaphore permits = new Semaphore(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int task = 0; task < 1000; task++) {
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        int[] scratch = pool.acquire();
+                        scratch[0]++;
+                        pool.release(scratch);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertTrue(created.get() <= 4);
+    }
+}
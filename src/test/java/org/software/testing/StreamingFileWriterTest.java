@@ -0,0 +1,60 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+public class StreamingFileWriterTest {
+    private Path testFile;
+
+    @Before
+    public void setUp() throws IOException {
+        testFile = Files.createTempFile("streaming", ".txt");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(testFile);
+    }
+
+    @Test
+    public void write_incrementalRecords_writesAllContent() throws IOException {
+        try (StreamingFileWriter writer = FileWriter.open(testFile.toString())) {
+            writer.write("Ahmed Hassan, 12345678A\n").write(new StringBuilder("The Dark Knight\n"));
+        }
+
+        assertEquals("Ahmed Hassan, 12345678A\nThe Dark Knight\n", Files.readString(testFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_contentLargerThanBuffer_isFlushedInChunks() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        try (StreamingFileWriter writer = FileWriter.open(testFile.toString())) {
+            for (int index = 0; index < 20000; index++) {
+                String record = "User " + index + ", Amélie, Crouching Tiger 臥虎藏龍\n";
+                expected.append(record);
+                writer.write(record);
+            }
+        }
+
+        assertEquals(expected.toString(), Files.readString(testFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void open_existingFile_truncatesOldContent() throws IOException {
+        Files.writeString(testFile, "Old content that is longer", StandardCharsets.UTF_8);
+
+        try (StreamingFileWriter writer = FileWriter.open(testFile.toString())) {
+            writer.write("New");
+        }
+
+        assertEquals("New", Files.readString(testFile, StandardCharsets.UTF_8));
+    }
+}
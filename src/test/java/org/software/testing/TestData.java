@@ -0,0 +1,37 @@
+package org.software.testing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Seeded random catalogues and users for tests that compare a strategy against a reference.
+final class TestData {
+    private TestData() {
+    }
+
+    static List<Movie> randomMovies(Random random, int count, int genreCount) {
+        List<Movie> movies = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            List<String> genres = new ArrayList<>();
+            for (int genre = 0; genre < 1 + random.nextInt(3); genre++) {
+                genres.add("G" + random.nextInt(genreCount));
+            }
+            movies.add(new Movie("Movie " + index, "M" + index, genres));
+        }
+        return movies;
+    }
+
+    // Each user favours two random movies followed by the extra favourite IDs.
+    static List<User> randomUsers(Random random, int count, List<Movie> movies, String... extraFavourites) {
+        List<User> users = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            List<String> favourites = new ArrayList<>();
+            favourites.add(movies.get(random.nextInt(movies.size())).id());
+            favourites.add(movies.get(random.nextInt(movies.size())).id());
+            favourites.addAll(Arrays.asList(extraFavourites));
+            users.add(new User("User " + index, String.format("%08dA", index), favourites));
+        }
+        return users;
+    }
+}
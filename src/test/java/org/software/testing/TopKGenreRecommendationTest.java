@@ -0,0 +1,82 @@
+package org.software.testing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TopKGenreRecommendationTest {
+
+    private List<Movie> allMovies;
+    private MovieCatalogue catalogue;
+
+    @Before
+    public void setUp() {
+        allMovies = Arrays.asList(
+                new Movie("The Matrix", "TM123", Arrays.asList("Action", "Sci-Fi")),
+                new Movie("John Wick", "JW456", Arrays.asList("Action", "Thriller")),
+                new Movie("Finding Nemo", "FN789", Arrays.asList("Animation", "Family")),
+                new Movie("Inception", "I111", Arrays.asList("Action", "Sci-Fi")),
+                new Movie("The Notebook", "TN222", Arrays.asList("Romance", "Drama")),
+                new Movie("Black Bag", "BB214", Arrays.asList("Drama", "Thriller"))
+        );
+        catalogue = new MovieCatalogue(allMovies);
+    }
+
+    @Test
+    public void recommend_ranksByGenreOverlap() {
+        User user = new User("Alice", "12345X", Arrays.asList("TM123")); // Action, Sci-Fi
+        List<Movie> recommendations = new TopKGenreRecommendation(10).recommend(user, catalogue);
+
+        assertEquals(Arrays.asList(allMovies.get(3), allMovies.get(1)), recommendations);
+    }
+
+    @Test
+    public void recommend_keepsOnlyTopK() {
+        User user = new User("Alice", "12345X", Arrays.asList("TM123"));
+        List<Movie> recommendations = new TopKGenreRecommendation(1).recommend(user, allMovies);
+
+        assertEquals(Arrays.asList(allMovies.get(3)), recommendations);
+    }
+
+    @Test
+    public void recommend_tiesKeepCatalogueOrder() {
+        User user = new User("Bob", "98765Y", Arrays.asList("TN222", "JW456")); // Romance, Drama + Action, Thriller
+        List<Movie> recommendations = new TopKGenreRecommendation(2).recommend(user, catalogue);
+
+        // Black Bag shares Drama and Thriller, the rest share one genre each
+        assertEquals(Arrays.asList(allMovies.get(5), allMovies.get(0)), recommendations);
+    }
+
+    @Test
+    public void recommend_limitOverridesConfiguredK() {
+        User user = new User("Bob", "98765Y", Arrays.asList("TN222", "JW456"));
+        TopKGenreRecommendation recommender = new TopKGenreRecommendation(1);
+
+        assertEquals(3, recommender.recommend(user, catalogue, 5).size());
+        assertTrue(recommender.recommend(user, catalogue, 0).isEmpty());
+    }
+
+    @Test
+    public void recommend_unlimitedMatchesGenreBasedSet() {
+        User user = new User("Bob", "98765Y", Arrays.asList("TN222", "TM123", "FN789"));
+        List<Movie> expected = new GenreBasedRecommendation().recommend(user, allMovies);
+        List<Movie> ranked = new TopKGenreRecommendation(Integer.MAX_VALUE).recommend(user, catalogue);
+
+        assertEquals(new HashSet<>(expected), new HashSet<>(ranked));
+    }
+
+    @Test
+    public void defaultLimit_truncatesUnrankedStrategies() {
+        User user = new User("Bob", "98765Y", Arrays.asList("TN222", "JW456"));
+        GenreBasedRecommendation recommender = new GenreBasedRecommendation();
+        List<Movie> all = recommender.recommend(user, catalogue);
+
+        assertEquals(all.subList(0, 2), recommender.recommend(user, catalogue, 2));
+        assertEquals(all, recommender.recommend(user, catalogue, 100));
+    }
+}
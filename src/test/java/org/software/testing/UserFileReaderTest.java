@@ -0,0 +1,59 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+public class UserFileReaderTest {
+    private Path tempFile;
+
+    @After
+    public void tearDown() throws IOException {
+        if (tempFile != null) {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    public void openUsers_validInput_matchesReadUsers() throws IOException {
+        String path = "test_files/users1.txt";
+        List<User> streamed = new ArrayList<>();
+        try (UserFileReader reader = FileReader.openUsers(path)) {
+            reader.forEachRemaining(streamed::add);
+        }
+
+        assertEquals(FileReader.readUsers(path), streamed);
+        assertEquals("Ahmed Hassan", streamed.getFirst().name());
+        assertEquals(List.of("TSR001", "TG002"), streamed.getFirst().favouriteMovieIds());
+    }
+
+    @Test
+    public void openUsers_emptyFile_hasNoUsers() throws IOException {
+        try (UserFileReader reader = FileReader.openUsers("test_files/emptyUsers.txt")) {
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+    }
+
+    @Test
+    public void openUsers_readsRecordsLazily() throws IOException {
+        tempFile = Files.createTempFile("users", ".txt");
+        Files.writeString(tempFile, "Ahmed Hassan,12345678A\nTSR001\nSara Mohamed\n", StandardCharsets.UTF_8);
+
+        try (UserFileReader reader = FileReader.openUsers(tempFile.toString())) {
+            assertTrue(reader.hasNext());
+            assertEquals("12345678A", reader.next().id());
+            assertThrows(IndexOutOfBoundsException.class, reader::hasNext);
+            assertFalse(reader.hasNext());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.software.testing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class UserStoreTest {
+    private MovieCatalogue catalogue;
+
+    @Before
+    public void setUp() {
+        catalogue = new MovieCatalogue(Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("The Matrix", "M2", Arrays.asList("Action")),
+                new Movie("Mad Max", "M3", Arrays.asList("Action", "Drama"))
+        ));
+    }
+
+    @Test
+    public void user_roundTripsEveryColumn() {
+        List<User> users = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            users.add(new User("Usér Number " + index, String.format("%08d%c", index * 7919, 'A' + index % 26),
+                    Arrays.asList("M" + (index % 3 + 1), "M" + ((index + 2) % 3 + 1))));
+        }
+        users.add(new User("Numeric User", "123456789", Arrays.asList("M1")));
+        users.add(new User("Signed User", "-12345678", Arrays.asList("M2", "M2")));
+        users.add(new User("Short User", "42", List.of()));
+
+        UserStore store = UserStore.of(users, catalogue);
+
+        assertEquals(users.size(), store.size());
+        for (int index = 0; index < users.size(); index++) {
+            User user = store.user(index);
+            assertEquals(users.get(index), user);
+            assertEquals(List.copyOf(users.get(index).favouriteMovieIds()), List.copyOf(user.favouriteMovieIds()));
+        }
+        assertEquals("00007919B", store.id(1));
+        assertEquals(2, store.favouriteCount(1001));
+        assertEquals(1, store.favouriteOrdinal(1001, 1));
+    }
+
+    @Test
+    public void user_columnsSpanningStoragePages_roundTrip() {
+        List<String> favourites = new ArrayList<>();
+        for (int position = 0; position < 50; position++) {
+            favourites.add("M" + (position % 3 + 1));
+        }
+        List<User> users = new ArrayList<>();
+        for (int index = 0; index < 25_000; index++) {
+            users.add(new User("Usér with a fairly long display name " + index, String.format("%08dA", index), favourites));
+        }
+
+        UserStore store = UserStore.of(users, catalogue);
+
+        for (int index = 0; index < users.size(); index++) {
+            assertEquals(users.get(index).name(), store.name(index));
+            assertEquals(50, store.favouriteCount(index));
+            assertEquals(index % 50 % 3, store.favouriteOrdinal(index, index % 50));
+        }
+    }
+
+    @Test
+    public void of_unknownFavourite_throwsIllegalArgumentException() {
+        List<User> users = List.of(new User("Ahmed Hassan", "12345678A", Arrays.asList("M1", "X9")));
+
+        assertThrows(IllegalArgumentException.class, () -> UserStore.of(users, catalogue));
+    }
+
+    @Test
+    public void recommend_againstStore_matchesPerUserRecommendation() {
+        List<User> users = TestData.randomUsers(new Random(3), 200, catalogue.movies());
+        UserStore store = UserStore.of(users, catalogue);
+
+        for (RecommendationStrategy strategy : List.of(new GenreBasedRecommendation(), new IndexedGenreRecommendation())) {
+            for (int index = 0; index < store.size(); index++) {
+                assertEquals(strategy.recommend(users.get(index), catalogue), strategy.recommend(store, index));
+            }
+        }
+    }
+}
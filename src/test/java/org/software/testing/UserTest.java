@@ -2,7 +2,9 @@ package org.software.testing;
 
 import org.junit.Test;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 
@@ -48,6 +50,14 @@ public class UserTest {
         assertEquals(user1, user2);
     }
 
+    @Test
+    public void hashCode_sameFavouriteMovieIdsDifferentOrder_isEqual() {
+        User user1 = new User("Ahmed", "777", List.of("TSR001", "TG002", "TDK003"));
+        User user2 = new User("Ahmed", "777", List.of("TDK003", "TG002", "TSR001"));
+        assertEquals(user1.hashCode(), user2.hashCode());
+        assertTrue(new HashMap<>(Map.of(user1, "value")).containsKey(user2));
+    }
+
     @Test
     public void toString_returnsCorrectFormat() {
         User user = new User("Ahmed", "777", List.of("TSR001", "TG002", "TDK003"));
@@ -0,0 +1,92 @@
+package org.software.testing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ValidationReportTest {
+    private ForkJoinPool pool;
+    private List<Movie> movies;
+    private List<User> users;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        movies = new ArrayList<>(Arrays.asList(
+                new Movie("The Shawshank Redemption", "TSR001", Arrays.asList("Drama")),
+                new Movie("The Godfather", "TG002", Arrays.asList("Crime", "Drama")),
+                new Movie("The Dark Knight", "TDK003", Arrays.asList("Action", "Crime", "Drama"))
+        ));
+        users = new ArrayList<>(Arrays.asList(
+                new User("Hassan Ali", "12345678X", Arrays.asList("TSR001", "TDK003")),
+                new User("Ali Mohamed", "87654321W", Arrays.asList("TG002"))
+        ));
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void validateAll_validData_returnsEmptyReport() {
+        ValidationReport report = new ValidationService(new MovieCatalogue(movies), users).validateAll(pool);
+
+        assertTrue(report.isValid());
+        report.throwIfInvalid();
+    }
+
+    @Test
+    public void validateAll_collectsEveryViolationInOrder() {
+        users.add(new User("sara", "12345678X", Arrays.asList("I004", "TG002")));
+        users.add(new User("Omar", "1234", Arrays.asList()));
+        movies.add(new Movie("inception", "I003", Arrays.asList()));
+
+        ValidationReport report = new ValidationService(new MovieCatalogue(movies), users).validateAll(pool);
+
+        List<ValidationReport.Violation> expected = Arrays.asList(
+                new ValidationReport.Violation(ErrorCode.USER_ID_ERROR, "User ID 12345678X is not unique"),
+                new ValidationReport.Violation(ErrorCode.USER_NAME_ERROR, "User Name sara is wrong"),
+                new ValidationReport.Violation(ErrorCode.MOVIE_NOT_FOUND_ERROR, "Movie I004 not found"),
+                new ValidationReport.Violation(ErrorCode.USER_ID_ERROR, "User ID 1234 is wrong"),
+                new ValidationReport.Violation(ErrorCode.MOVIE_ID_UNIQUE_ERROR, "Movie ID numbers TDK003 aren't unique"),
+                new ValidationReport.Violation(ErrorCode.MOVIE_TITLE_ERROR, "Movie title inception is wrong"),
+                new ValidationReport.Violation(ErrorCode.MOVIE_GENRE_ERROR, "Movie genre is empty")
+        );
+        assertEquals(expected, report.violations());
+    }
+
+    @Test
+    public void validateAll_firstViolationMatchesValidate() {
+        users.add(new User("Sara Ahmed", "87654321W", Arrays.asList("TG002")));
+        ValidationService validationService = new ValidationService(movies, users);
+
+        AppException expected = assertThrows(AppException.class, validationService::validate);
+        AppException reported = assertThrows(AppException.class, () -> validationService.validateAll(pool).throwIfInvalid());
+
+        assertEquals(expected.getMessage(), reported.getMessage());
+        assertEquals(expected.getErrorCode(), reported.getErrorCode());
+    }
+
+    @Test
+    public void validateAll_manyUsers_findsAllBadRecords() {
+        for (int index = 0; index < 1000; index++) {
+            String name = index % 100 == 0 ? "bad name" : "Good Name";
+            users.add(new User(name, String.format("%08dA", index), Arrays.asList("TSR001")));
+        }
+
+        ValidationReport report = new ValidationService(new MovieCatalogue(movies), users).validateAll(pool);
+
+        assertEquals(10, report.violations().size());
+        for (ValidationReport.Violation violation : report.violations()) {
+            assertEquals(ErrorCode.USER_NAME_ERROR, violation.errorCode());
+        }
+    }
+}
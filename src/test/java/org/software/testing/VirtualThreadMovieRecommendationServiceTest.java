@@ -0,0 +1,88 @@
+package org.software.testing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class VirtualThreadMovieRecommendationServiceTest {
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private MovieCatalogue catalogue;
+    private List<User> users;
+
+    @Before
+    public void setUp() {
+        catalogue = new MovieCatalogue(Arrays.asList(
+                new Movie("Inception", "M1", Arrays.asList("Sci-Fi")),
+                new Movie("Arrival", "M2", Arrays.asList("Sci-Fi"))
+        ));
+        users = new ArrayList<>();
+        for (int index = 0; index < 60; index++) {
+            users.add(new User("User", String.format("%08dA", index), Arrays.asList("M" + (index % 2 + 1))));
+        }
+    }
+
+    private MovieRecommendationService blockingService() {
+        return new MovieRecommendationService(new GenreBasedRecommendation() {
+            @Override
+            public List<Movie> recommend(User user, MovieCatalogue catalogue) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(Integer.parseInt(user.id().substring(6, 8)) % 7);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return super.recommend(user, catalogue);
+            }
+        });
+    }
+
+    @Test
+    public void generateRecommendationsOnVirtualThreads_matchesSequentialInInputOrder() {
+        MovieRecommendationService service = blockingService();
+
+        Map<User, List<Movie>> recommendations = service.generateRecommendationsOnVirtualThreads(users, catalogue, 8);
+
+        assertEquals(users, new ArrayList<>(recommendations.keySet()));
+        assertEquals(service.generateRecommendations(users, catalogue), recommendations);
+    }
+
+    @Test
+    public void generateRecommendationsOnVirtualThreads_respectsConcurrencyLimit() throws IOException {
+        List<User> emittedUsers = new ArrayList<>();
+
+        blockingService().generateRecommendationsOnVirtualThreads(users, catalogue, 3,
+                (user, recommendedMovies) -> emittedUsers.add(user));
+
+        assertEquals(users, emittedUsers);
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void generateRecommendationsOnVirtualThreads_failingStrategy_rethrowsCause() {
+        MovieRecommendationService service = new MovieRecommendationService((user, movies) -> {
+            throw new IllegalStateException("store unavailable");
+        });
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> service.generateRecommendationsOnVirtualThreads(users, catalogue, 4));
+
+        assertEquals("store unavailable", thrown.getMessage());
+    }
+
+    @Test
+    public void generateRecommendationsOnVirtualThreads_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> blockingService().generateRecommendationsOnVirtualThreads(users, catalogue, 0));
+    }
+}
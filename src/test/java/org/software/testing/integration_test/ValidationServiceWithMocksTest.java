@@ -75,7 +75,7 @@ public class ValidationServiceWithMocksTest {
         validationService.validate();
 
         // Verify interactions
-        verify(mockMovies, times(6)).get(anyInt());
+        verify(mockMovies, times(2)).get(anyInt());
     }
 
     @Test(expected = AppException.class)
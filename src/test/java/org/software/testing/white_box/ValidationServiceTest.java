@@ -89,6 +89,51 @@ public class ValidationServiceTest {
         movies.add(new Movie("The Godfather", "TG001", List.of("Crime")));
         assertThrows(AppException.class, validationService::validate);
     }
+
+    @Test
+    public void testValidateUserIdUniqueness_ReportsEarliestDuplicatedId() {
+        users.add(new User("Ahmed", "12345678A", List.of()));
+        users.add(new User("Ali", "87654321B", List.of()));
+        users.add(new User("Omar", "87654321B", List.of()));
+        users.add(new User("Sara", "12345678A", List.of()));
+        AppException exception = assertThrows(AppException.class, validationService::validate);
+        assertEquals("User ID 12345678A is not unique", exception.getMessage());
+        assertEquals(ErrorCode.USER_ID_ERROR, exception.getErrorCode());
+    }
+
+    @Test
+    public void testValidateMovieIdUniqueness_ReportsEarliestDuplicatedId() {
+        movies.add(new Movie("The Godfather", "TG002", List.of("Crime")));
+        movies.add(new Movie("The Shawshank Redemption", "TSR001", List.of("Drama")));
+        movies.add(new Movie("Inception", "I001", List.of("Action")));
+        movies.add(new Movie("The Dark Knight", "TDK002", List.of("Action")));
+        AppException exception = assertThrows(AppException.class, validationService::validate);
+        assertEquals("Movie ID numbers TG002 aren't unique", exception.getMessage());
+        assertEquals(ErrorCode.MOVIE_ID_UNIQUE_ERROR, exception.getErrorCode());
+    }
+
+    @Test
+    public void testValidateUser_NumericUserIdAccepted() {
+        users.add(new User("Ahmed Ali", "123456789", List.of()));
+        validationService.validate();
+    }
+
+    @Test
+    public void testValidateMovie_EmptyWordInTitle() {
+        movies.add(new Movie("The  Godfather", "TG002", List.of("Crime")));
+        AppException exception = assertThrows(AppException.class, validationService::validate);
+        assertEquals("Movie title The  Godfather is wrong", exception.getMessage());
+        assertEquals(ErrorCode.MOVIE_TITLE_ERROR, exception.getErrorCode());
+    }
+
+    @Test
+    public void testValidateMovie_IdLettersMismatch() {
+        movies.add(new Movie("The Dark Knight", "TDN003", List.of("Action")));
+        AppException exception = assertThrows(AppException.class, validationService::validate);
+        assertEquals("Movie ID letters TDN003 are wrong", exception.getMessage());
+        assertEquals(ErrorCode.MOVIE_ID_LETTERS_ERROR, exception.getErrorCode());
+    }
+
     @Test
     public void testValidateNameOrTitle_NullOrEmpty() {
         ValidationService validationService = new ValidationService(List.of(), List.of());